@@ -39,6 +39,8 @@ public class UnbelievableException extends RuntimeException {
   @Serial
   private static final long serialVersionUID = -5430796388952219805L;
 
+  private static volatile boolean stackTraces = !Boolean.getBoolean("fabric.exceptions.stackless");
+
   /// Creates the ultimate armageddon. Where no single clue is present,
   /// and doom is the only fate for us all.
   ///
@@ -97,16 +99,62 @@ public class UnbelievableException extends RuntimeException {
   ///
   /// @param reason the reason for all the madness that's preventing your code from causing even more damage.
   /// @see #UnbelievableException(String)
+  /// @see #stackTraces(boolean)
   public static Supplier<UnbelievableException> because(String reason) {
-    return () -> new UnbelievableException(reason);
+    return () -> create(reason);
   }
 
   /// Holds the crap tight, until it forms a singularity ready to absorb every bit that dares stay nearby.
   ///
   /// @param reasonSupplier your last bet to give your app another CPU cycle
   /// @see #UnbelievableException(String)
+  /// @see #stackTraces(boolean)
   public static Supplier<UnbelievableException> because(Supplier<String> reasonSupplier) {
-    return () -> new UnbelievableException(reasonSupplier.get());
+    return () -> create(reasonSupplier.get());
+  }
+
+  private static UnbelievableException create(String reason) {
+    return stackTraces ? new UnbelievableException(reason) : stackless(reason);
+  }
+
+  /// Summons a ghost of the apocalypse: it hurts just as much, but leaves no footprints behind.
+  ///
+  /// The stack trace is not filled, which makes creating the exception a lot cheaper. Use it in
+  /// paths where failures are expected and frequent, like validating user input.
+  ///
+  /// @param message your plea, the only clue you'll have
+  /// @return a new exception without stack trace
+  public static UnbelievableException stackless(String message) {
+    return new UnbelievableException(message, null, true, false);
+  }
+
+  /// Carves the doom in stone, so it can be thrown again and again without costing a single byte.
+  ///
+  /// The returned instance has no stack trace, doesn't record suppressed exceptions and
+  /// can't have its cause changed, which makes it safe to store in a constant and share
+  /// between threads.
+  ///
+  /// @param message your plea, forever
+  /// @return a new immutable exception
+  public static UnbelievableException preallocated(String message) {
+    return new UnbelievableException(message, null, false, false);
+  }
+
+  /// Decides, once and for all, if the exceptions created by {@link #because(String)} and
+  /// {@link #because(Supplier)} should leave footprints.
+  ///
+  /// Defaults to {@code true}, unless the system property `fabric.exceptions.stackless` is set
+  /// to {@code true}.
+  ///
+  /// @param enabled {@code false} to create the exceptions without stack traces
+  public static void stackTraces(boolean enabled) {
+    stackTraces = enabled;
+  }
+
+  /// @return {@code true} if {@link #because(String)} and {@link #because(Supplier)} fill the
+  /// stack traces of the exceptions they create.
+  public static boolean stackTracesEnabled() {
+    return stackTraces;
   }
 
 }
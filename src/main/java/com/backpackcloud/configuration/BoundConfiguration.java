@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import com.backpackcloud.io.Deserializer;
+
+import java.util.function.Supplier;
+
+/// Holds the object bound from the content of a configuration.
+///
+/// The content is deserialized only once and the resulting object is handed out on every
+/// {@link #get() get}. A {@link #refresh() refresh} reads the content again, but only binds
+/// a new object if the content has actually changed.
+///
+/// @param <T> the type of the bound object
+/// @author Ataxexe
+/// @see Configuration#as(Class, Deserializer)
+public class BoundConfiguration<T> implements Supplier<T> {
+
+  private final Configuration configuration;
+  private final Class<T> type;
+  private final Deserializer deserializer;
+  private volatile Binding<T> binding;
+
+  public BoundConfiguration(Configuration configuration, Class<T> type, Deserializer deserializer) {
+    this.configuration = configuration;
+    this.type = type;
+    this.deserializer = deserializer;
+    load();
+  }
+
+  /// Gets the bound object. Might be `null` if the configuration has no content.
+  ///
+  /// @return the object bound on the last content change
+  @Override
+  public T get() {
+    return binding.value();
+  }
+
+  /// Reads the content of the configuration and binds a new object if the content
+  /// is not the same as the one used for the current object.
+  ///
+  /// @return a reference to this instance
+  public BoundConfiguration<T> refresh() {
+    load();
+    return this;
+  }
+
+  // not overridable, so the constructor doesn't leak a partially built instance
+  private void load() {
+    String content = configuration.isSet() ? configuration.get() : null;
+    Binding<T> current = this.binding;
+    if (current == null || !current.isBoundTo(content)) {
+      this.binding = new Binding<>(content, content == null ? 0 : content.hashCode(), bind(content));
+    }
+  }
+
+  private T bind(String content) {
+    if (content == null || content.isBlank()) {
+      return null;
+    }
+    return deserializer.deserialize(content, type);
+  }
+
+  private record Binding<T>(String content, int hash, T value) {
+
+    boolean isBoundTo(String other) {
+      if (other == null) {
+        return content == null;
+      }
+      return hash == other.hashCode() && other.equals(content);
+    }
+
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import java.util.List;
+
+/// A configuration that resolves a list of prioritized configurations only once and
+/// sticks with the first one that {@link Configuration#isSet() is set}.
+///
+/// Sources are only probed again when this configuration gets {@link #refresh() refreshed},
+/// which makes it suitable for lookups in hot paths. The refresh method can be used as
+/// a listener for any change notification mechanism.
+///
+/// @author Ataxexe
+/// @see ConfigurationChain#compile()
+public class CompiledConfiguration implements Configuration {
+
+  private final Configuration[] configurations;
+  private volatile Configuration resolved;
+
+  /// Creates a new configuration and resolves it right away.
+  ///
+  /// @param configurations the configurations to resolve, ordered by priority
+  public CompiledConfiguration(Configuration... configurations) {
+    this.configurations = configurations.clone();
+    resolve();
+  }
+
+  /// Probes the configurations again, in order, looking for the first one that is set.
+  ///
+  /// @return a reference to this instance
+  public CompiledConfiguration refresh() {
+    resolve();
+    return this;
+  }
+
+  // not overridable, so the constructor doesn't leak a partially built instance
+  private void resolve() {
+    Configuration result = NOT_SUPPLIED;
+    for (Configuration configuration : configurations) {
+      if (configuration.isSet()) {
+        result = configuration;
+        break;
+      }
+    }
+    this.resolved = result;
+  }
+
+  /// @return the configuration that was set on the last resolution, or {@link #NOT_SUPPLIED}
+  public Configuration source() {
+    return resolved;
+  }
+
+  @Override
+  public boolean isSet() {
+    return resolved != NOT_SUPPLIED;
+  }
+
+  @Override
+  public String get() {
+    return resolved.get();
+  }
+
+  @Override
+  public String read() {
+    return resolved.read();
+  }
+
+  @Override
+  public List<String> readLines() {
+    return resolved.readLines();
+  }
+
+  @Override
+  public Configuration or(Configuration defaultConfiguration) {
+    return isSet() ? resolved : defaultConfiguration;
+  }
+
+}
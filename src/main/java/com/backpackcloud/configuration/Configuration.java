@@ -25,6 +25,7 @@
 package com.backpackcloud.configuration;
 
 import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.io.Deserializer;
 import com.backpackcloud.io.deserializers.ConfigurationDeserializer;
 import com.backpackcloud.text.InputValue;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -100,6 +101,27 @@ public interface Configuration extends InputValue {
     return isSet() ? this : defaultConfiguration;
   }
 
+  /// Binds the contents of this configuration to an object of the given type.
+  ///
+  /// The content is deserialized only once. Keep the returned object around and
+  /// {@link BoundConfiguration#refresh() refresh} it whenever the content might have changed.
+  ///
+  /// @param type         the type of the object to bind
+  /// @param deserializer the deserializer to bind the content
+  /// @return a new BoundConfiguration object
+  default <T> BoundConfiguration<T> as(Class<T> type, Deserializer deserializer) {
+    return new BoundConfiguration<>(this, type, deserializer);
+  }
+
+  /// Returns a configuration that replaces any placeholder in this configuration's value,
+  /// like `${env:HOME}/data`.
+  ///
+  /// @return a new InterpolatedConfiguration object
+  /// @see InterpolatedConfiguration
+  default Configuration interpolated() {
+    return new InterpolatedConfiguration(this);
+  }
+
   /// A convenience method for starting a configuration chain which defaults to {@link #NOT_SUPPLIED}.
   static ConfigurationChain configuration() {
     return new ConfigurationChain(NOT_SUPPLIED);
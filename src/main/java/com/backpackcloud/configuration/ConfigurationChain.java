@@ -24,6 +24,7 @@
 
 package com.backpackcloud.configuration;
 
+import java.util.Arrays;
 import java.util.List;
 
 /// A class that acts as a Configuration, but provides mechanisms to chain the
@@ -33,6 +34,9 @@ import java.util.List;
 /// Any other configuration chained will be used only if the previous one
 /// is {@link Configuration#isSet() not set}.
 ///
+/// The chain is resolved while it's built. Use {@link #compile()} to get a configuration
+/// that can probe the sources again later.
+///
 /// This class is immutable, so all chaining methods will return a new object.
 ///
 /// @author Ataxexe
@@ -40,6 +44,8 @@ public class ConfigurationChain implements Configuration {
 
   /// The actual Configuration this class will delegate the interface methods.
   private final Configuration configuration;
+  /// Every configuration in this chain, ordered by priority, kept for compilation.
+  private final Configuration[] configurations;
 
   /// Creates a new chain using the given configuration as the first priority.
   ///
@@ -49,6 +55,18 @@ public class ConfigurationChain implements Configuration {
   /// @param configuration the configuration to create the chain, might be already a chain
   public ConfigurationChain(Configuration configuration) {
     this.configuration = configuration;
+    if (configuration instanceof ConfigurationChain chain) {
+      this.configurations = chain.configurations;
+    } else if (configuration == NOT_SUPPLIED) {
+      this.configurations = new Configuration[0];
+    } else {
+      this.configurations = new Configuration[]{configuration};
+    }
+  }
+
+  private ConfigurationChain(Configuration configuration, Configuration[] configurations) {
+    this.configuration = configuration;
+    this.configurations = configurations;
   }
 
   @Override
@@ -76,12 +94,29 @@ public class ConfigurationChain implements Configuration {
     return configuration.or(defaultConfiguration);
   }
 
+  /// Creates a configuration that resolves the links of this chain again and remembers
+  /// which source was set.
+  ///
+  /// The returned configuration will not probe the sources again until it gets
+  /// {@link CompiledConfiguration#refresh() refreshed}.
+  ///
+  /// @return a new compiled configuration
+  public CompiledConfiguration compile() {
+    return new CompiledConfiguration(configurations);
+  }
+
+  private ConfigurationChain chain(Configuration next) {
+    Configuration[] result = Arrays.copyOf(configurations, configurations.length + 1);
+    result[configurations.length] = next;
+    return new ConfigurationChain(configuration.or(next), result);
+  }
+
   /// Chains this configuration with an environment configuration.
   ///
   //// @return a new chain object
   /// @see Configuration#env(String)
   public ConfigurationChain env(String name) {
-    return new ConfigurationChain(configuration.or(Configuration.env(name)));
+    return chain(Configuration.env(name));
   }
 
   /// Chains this configuration with a file configuration.
@@ -89,7 +124,7 @@ public class ConfigurationChain implements Configuration {
   /// @return a new chain object
   /// @see Configuration#file(String)
   public ConfigurationChain file(String location) {
-    return new ConfigurationChain(configuration.or(Configuration.file(location)));
+    return chain(Configuration.file(location));
   }
 
   /// Chains this configuration with a resource configuration.
@@ -97,7 +132,7 @@ public class ConfigurationChain implements Configuration {
   /// @return a new chain object
   /// @see Configuration#resource(String)
   public ConfigurationChain resource(String location) {
-    return new ConfigurationChain(configuration.or(Configuration.resource(location)));
+    return chain(Configuration.resource(location));
   }
 
   /// Chains this configuration with a property configuration.
@@ -105,7 +140,7 @@ public class ConfigurationChain implements Configuration {
   /// @return a new chain object
   /// @see Configuration#property(String)
   public ConfigurationChain property(String name) {
-    return new ConfigurationChain(configuration.or(Configuration.property(name)));
+    return chain(Configuration.property(name));
   }
 
   /// Chains this configuration with a url configuration.
@@ -113,7 +148,7 @@ public class ConfigurationChain implements Configuration {
   /// @return a new chain object
   /// @see Configuration#url(String)
   public ConfigurationChain url(String location) {
-    return new ConfigurationChain(configuration.or(Configuration.url(location)));
+    return chain(Configuration.url(location));
   }
 
   /// Chains this configuration with a value configuration.
@@ -121,7 +156,7 @@ public class ConfigurationChain implements Configuration {
   /// @return a new chain object
   /// @see Configuration#value(String)
   public ConfigurationChain value(String value) {
-    return new ConfigurationChain(configuration.or(Configuration.value(value)));
+    return chain(Configuration.value(value));
   }
 
 }
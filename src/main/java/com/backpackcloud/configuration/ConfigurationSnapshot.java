@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/// An immutable copy of a key/value source (like the environment variables or the
+/// system properties) that can back configurations without touching the source on
+/// every access.
+///
+/// Configurations created by a snapshot only see the values captured by the last
+/// {@link #refresh() refresh}, which makes reading them lock-free and allocation-free.
+///
+/// @author Ataxexe
+/// @see SnapshotConfiguration
+public class ConfigurationSnapshot {
+
+  /// A snapshot of the environment variables.
+  ///
+  /// @see System#getenv()
+  public static final ConfigurationSnapshot ENVIRONMENT = new ConfigurationSnapshot(System::getenv);
+
+  /// A snapshot of the system properties.
+  ///
+  /// @see System#getProperties()
+  public static final ConfigurationSnapshot PROPERTIES = new ConfigurationSnapshot(ConfigurationSnapshot::systemProperties);
+
+  private final Supplier<Map<String, String>> source;
+  private volatile Map<String, String> values;
+
+  /// Creates a new snapshot of the values supplied by the given source.
+  ///
+  /// The source is read right away and then only on each {@link #refresh() refresh}.
+  ///
+  /// @param source the supplier of the values to capture
+  public ConfigurationSnapshot(Supplier<Map<String, String>> source) {
+    this.source = source;
+    load();
+  }
+
+  /// Captures the values of the source again.
+  ///
+  /// Every configuration created by this snapshot will see the new values.
+  ///
+  /// @return a reference to this instance
+  public ConfigurationSnapshot refresh() {
+    load();
+    return this;
+  }
+
+  // not overridable, so the constructor doesn't leak a partially built instance
+  private void load() {
+    this.values = Map.copyOf(source.get());
+  }
+
+  /// Checks if the given key was present in the source when the snapshot was taken.
+  ///
+  /// @param key the key to check
+  /// @return `true` if the snapshot holds a value for the key
+  public boolean contains(String key) {
+    return values.containsKey(key);
+  }
+
+  /// Gets the captured value of the given key. Might be `null`.
+  ///
+  /// @param key the key of the value
+  /// @return the value captured for the key
+  public String get(String key) {
+    return values.get(key);
+  }
+
+  /// Creates and returns a configuration that uses the value captured for the given key.
+  ///
+  /// @param key the key of the value
+  /// @return a new Configuration object
+  public Configuration configuration(String key) {
+    return new SnapshotConfiguration(this, key);
+  }
+
+  private static Map<String, String> systemProperties() {
+    Properties properties = System.getProperties();
+    Map<String, String> result = new HashMap<>();
+    for (String name : properties.stringPropertyNames()) {
+      String value = properties.getProperty(name);
+      if (value != null) {
+        result.put(name, value);
+      }
+    }
+    return result;
+  }
+
+}
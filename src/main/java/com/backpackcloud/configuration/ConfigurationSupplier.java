@@ -24,8 +24,18 @@
 
 package com.backpackcloud.configuration;
 
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.io.Deserializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /// A class that encapsulates a common logic found deepest in the legends of the
 /// ancient pieces of voltage that formed the army of the digital century.
@@ -52,6 +62,9 @@ public record ConfigurationSupplier(String name, String extension) implements Su
     this(name, "yml");
   }
 
+  /// Holds the configurations already resolved by {@link #cached()}.
+  private static final Map<ConfigurationSupplier, Configuration> CACHE = new ConcurrentHashMap<>();
+
   /// Gets a configuration by checking a priority order for the fist one that is set:
   ///
   /// - {@link #fromEnvironment() environment}
@@ -59,15 +72,89 @@ public record ConfigurationSupplier(String name, String extension) implements Su
   /// - {@link #fromUserHome() user home}
   /// - {@link #getDefault() default}
   public Configuration get() {
-    return Stream.of(
-        fromEnvironment(),
-        fromWorkingDir(),
-        fromUserHome(),
-        getDefault()
-      )
-      .filter(Configuration::isSet)
-      .findFirst()
-      .orElse(Configuration.NOT_SUPPLIED);
+    for (Configuration candidate : candidates()) {
+      if (candidate.isSet()) {
+        return candidate;
+      }
+    }
+    return Configuration.NOT_SUPPLIED;
+  }
+
+  /// Same as {@link #get()}, but probes all the candidates at the same time, each one
+  /// in its own virtual thread.
+  ///
+  /// The priority order is still respected: the result is the first candidate that is set,
+  /// which is returned as soon as every candidate before it is known to not be set.
+  ///
+  /// @return the first configuration that is set
+  public Configuration getConcurrently() {
+    return probeConcurrently(candidates());
+  }
+
+  /// Gets the configuration {@link #getConcurrently() concurrently} only once for each
+  /// name and extension, returning the same configuration in every subsequent call.
+  ///
+  /// @return the first configuration that was set on the first call
+  /// @see #clearCache()
+  public Configuration cached() {
+    Configuration configuration = CACHE.get(this);
+    if (configuration == null) {
+      // probed outside the map to not block other keys while waiting for the I/O
+      Configuration probed = getConcurrently();
+      configuration = CACHE.putIfAbsent(this, probed);
+      if (configuration == null) {
+        configuration = probed;
+      }
+    }
+    return configuration;
+  }
+
+  /// Binds the {@link #cached() cached} configuration to an object of the given type.
+  ///
+  /// @param type         the type of the object to bind
+  /// @param deserializer the deserializer to bind the content
+  /// @return a new BoundConfiguration object
+  /// @see Configuration#as(Class, Deserializer)
+  public <T> BoundConfiguration<T> as(Class<T> type, Deserializer deserializer) {
+    return cached().as(type, deserializer);
+  }
+
+  /// Discards every configuration resolved by {@link #cached()}.
+  public static void clearCache() {
+    CACHE.clear();
+  }
+
+  /// @return all the candidates, ordered by priority
+  public List<Configuration> candidates() {
+    return List.of(
+      fromEnvironment(),
+      fromWorkingDir(),
+      fromUserHome(),
+      getDefault()
+    );
+  }
+
+  static Configuration probeConcurrently(List<? extends Configuration> candidates) {
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      List<Future<Boolean>> probes = new ArrayList<>(candidates.size());
+      for (Configuration candidate : candidates) {
+        probes.add(executor.submit(candidate::isSet));
+      }
+      for (int i = 0; i < probes.size(); i++) {
+        if (probes.get(i).get()) {
+          return candidates.get(i);
+        }
+      }
+      return Configuration.NOT_SUPPLIED;
+    } catch (ExecutionException e) {
+      throw new UnbelievableException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnbelievableException(e);
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   /// Gets a configuration using the file pointed by the environment variable `{NAME}_CONFIG_FILE`.
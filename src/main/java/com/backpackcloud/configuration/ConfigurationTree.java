@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import com.backpackcloud.io.Deserializer;
+import com.backpackcloud.text.InputValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/// A set of configuration values indexed by their paths, like `server.http.port`.
+///
+/// The tree is composed of layers, where the first layer has the highest priority,
+/// just like a {@link ConfigurationChain}:
+///
+/// ```java
+/// ConfigurationTree tree = ConfigurationTree.tree()
+///   .env("APP")
+///   .property("app")
+///   .file("./app.yml", SerialBitter.YAML())
+///   .resource("META-INF/app.yml", SerialBitter.YAML());
+///
+/// int port = tree.get("server.http.port").asInteger().orElse(8080);
+/// ```
+///
+/// Structured contents are parsed only once and flattened into paths. Nested objects
+/// are joined by `.` and array elements are indexed by their position (`hosts.0`). Arrays
+/// of plain values are also available as a comma-separated value, so they can be
+/// {@link InputValue#split() split}.
+///
+/// All layers are resolved on the first lookup, after that every lookup is a single map read.
+///
+/// This class is immutable, so all layering methods will return a new object.
+///
+/// @author Ataxexe
+public class ConfigurationTree {
+
+  /// The layers of this tree, ordered by priority.
+  private final List<Consumer<Map<String, InputValue>>> layers;
+  private volatile Map<String, InputValue> values;
+
+  private ConfigurationTree(List<Consumer<Map<String, InputValue>>> layers) {
+    this.layers = layers;
+  }
+
+  /// Starts a new tree without any layer.
+  ///
+  /// @return a new empty tree
+  public static ConfigurationTree tree() {
+    return new ConfigurationTree(List.of());
+  }
+
+  /// Gets the value at the given path.
+  ///
+  /// @param path the path of the value, like `server.http.port`
+  /// @return the value at the given path or {@link InputValue#EMPTY}
+  public InputValue get(String path) {
+    return values().getOrDefault(path, InputValue.EMPTY);
+  }
+
+  /// Checks if there is a value at the given path.
+  ///
+  /// @param path the path of the value
+  /// @return `true` if any layer has a value at the given path
+  public boolean contains(String path) {
+    return values().containsKey(path);
+  }
+
+  /// @return all the paths of this tree
+  public Set<String> paths() {
+    return values().keySet();
+  }
+
+  /// Adds a layer with the environment variables that match the paths of the lower layers.
+  ///
+  /// A path is mapped to a variable by converting it to upper case and replacing
+  /// anything that is not a letter or a digit by `_`, then prefixing it with the given
+  /// prefix, like `server.http.port` to `APP_SERVER_HTTP_PORT`.
+  ///
+  /// If a prefix is given, any other variable starting with it is also added, with its
+  /// name mapped back to a path by converting it to lower case and replacing `_` by `.`.
+  ///
+  /// @param prefix the prefix of the variables, might be `null`
+  /// @return a new tree
+  public ConfigurationTree env(String prefix) {
+    String variablePrefix = prefix == null || prefix.isBlank() ? "" : prefix.trim().toUpperCase(Locale.ROOT) + "_";
+    return layer(values -> {
+      Map<String, String> environment = System.getenv();
+      Set<String> used = new HashSet<>();
+      for (String path : new ArrayList<>(values.keySet())) {
+        String name = variablePrefix + path.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_");
+        String value = environment.get(name);
+        if (value != null) {
+          values.put(path, InputValue.of(value));
+          used.add(name);
+        }
+      }
+      if (!variablePrefix.isEmpty()) {
+        environment.forEach((name, value) -> {
+          if (name.startsWith(variablePrefix) && name.length() > variablePrefix.length() && !used.contains(name)) {
+            String path = name.substring(variablePrefix.length()).toLowerCase(Locale.ROOT).replace('_', '.');
+            values.put(path, InputValue.of(value));
+          }
+        });
+      }
+    });
+  }
+
+  /// Adds a layer with the system properties starting with the given prefix, with the prefix removed.
+  ///
+  /// A property `app.server.http.port` will be available as `server.http.port` if the prefix
+  /// is `app`.
+  ///
+  /// @param prefix the prefix of the properties, might be `null` to include all properties
+  /// @return a new tree
+  public ConfigurationTree property(String prefix) {
+    String propertyPrefix = prefix == null || prefix.isBlank() ? "" : prefix.trim() + ".";
+    return layer(values -> {
+      Properties properties = System.getProperties();
+      for (String name : properties.stringPropertyNames()) {
+        if (name.startsWith(propertyPrefix) && name.length() > propertyPrefix.length()) {
+          values.put(name.substring(propertyPrefix.length()), InputValue.of(properties.getProperty(name)));
+        }
+      }
+    });
+  }
+
+  /// Adds a layer with the structured contents of the given file.
+  ///
+  /// @param location     the file location
+  /// @param deserializer the deserializer to parse the contents
+  /// @return a new tree
+  /// @see Configuration#file(String)
+  public ConfigurationTree file(String location, Deserializer deserializer) {
+    return configuration(Configuration.file(location), deserializer);
+  }
+
+  /// Adds a layer with the structured contents of the given resource.
+  ///
+  /// @param location     the resource location
+  /// @param deserializer the deserializer to parse the contents
+  /// @return a new tree
+  /// @see Configuration#resource(String)
+  public ConfigurationTree resource(String location, Deserializer deserializer) {
+    return configuration(Configuration.resource(location), deserializer);
+  }
+
+  /// Adds a layer with the structured contents of the given configuration.
+  ///
+  /// Nothing is added if the configuration is not set.
+  ///
+  /// @param configuration the configuration holding the contents
+  /// @param deserializer  the deserializer to parse the contents
+  /// @return a new tree
+  public ConfigurationTree configuration(Configuration configuration, Deserializer deserializer) {
+    return layer(values -> {
+      if (configuration.isSet()) {
+        String content = configuration.get();
+        if (content != null && !content.isBlank()) {
+          flatten("", deserializer.deserialize(content, JsonNode.class), values);
+        }
+      }
+    });
+  }
+
+  /// Adds a layer with the given values, mapped by their paths.
+  ///
+  /// @param layerValues the values to add
+  /// @return a new tree
+  public ConfigurationTree values(Map<String, ?> layerValues) {
+    return layer(values -> layerValues.forEach((path, value) -> values.put(path, InputValue.of(value))));
+  }
+
+  private ConfigurationTree layer(Consumer<Map<String, InputValue>> layer) {
+    List<Consumer<Map<String, InputValue>>> result = new ArrayList<>(layers);
+    result.add(layer);
+    return new ConfigurationTree(List.copyOf(result));
+  }
+
+  private Map<String, InputValue> values() {
+    Map<String, InputValue> result = this.values;
+    if (result == null) {
+      Map<String, InputValue> map = new HashMap<>();
+      // lower layers go first so the higher ones can override (and see) their paths
+      for (int i = layers.size() - 1; i >= 0; i--) {
+        layers.get(i).accept(map);
+      }
+      result = Collections.unmodifiableMap(map);
+      this.values = result;
+    }
+    return result;
+  }
+
+  private static void flatten(String path, JsonNode node, Map<String, InputValue> values) {
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      return;
+    }
+    if (node.isObject()) {
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        flatten(path.isEmpty() ? field.getKey() : path + "." + field.getKey(), field.getValue(), values);
+      }
+    } else if (node.isArray()) {
+      StringJoiner joiner = new StringJoiner(",");
+      boolean plain = true;
+      for (int i = 0; i < node.size(); i++) {
+        JsonNode element = node.get(i);
+        flatten(path.isEmpty() ? String.valueOf(i) : path + "." + i, element, values);
+        if (element.isValueNode()) {
+          joiner.add(element.asText());
+        } else {
+          plain = false;
+        }
+      }
+      if (plain && !path.isEmpty()) {
+        values.put(path, InputValue.of(joiner.toString()));
+      }
+    } else if (!path.isEmpty()) {
+      values.put(path, InputValue.of(node.asText()));
+    }
+  }
+
+}
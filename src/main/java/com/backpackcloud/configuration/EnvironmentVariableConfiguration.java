@@ -43,7 +43,11 @@ public class EnvironmentVariableConfiguration implements Configuration {
 
   @Override
   public String get() {
-    return System.getenv(name);
+    ConfigurationReadEvent event = ReadProbe.event();
+    long start = ReadProbe.start();
+    String value = System.getenv(name);
+    ReadProbe.end("env", name, value != null, start, event);
+    return value;
   }
 
 }
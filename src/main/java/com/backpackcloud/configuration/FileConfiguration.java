@@ -34,7 +34,7 @@ import java.nio.file.Path;
 /// A configuration that is based on the existence of a file in the filesystem.
 ///
 /// @author Ataxexe
-public class FileConfiguration implements Configuration {
+public class FileConfiguration implements Configuration, Versioned {
 
   private final String path;
 
@@ -52,12 +52,24 @@ public class FileConfiguration implements Configuration {
     return read();
   }
 
+  @Override
+  public Object version() {
+    File file = new File(path);
+    return file.isFile() ? file.lastModified() + ":" + file.length() : null;
+  }
+
   @Override
   public String read() {
+    ConfigurationReadEvent event = ReadProbe.event();
+    long start = ReadProbe.start();
+    String content = null;
     try {
-      return Files.readString(Path.of(path));
+      content = Files.readString(Path.of(path));
+      return content;
     } catch (IOException e) {
       throw new UnbelievableException(e);
+    } finally {
+      ReadProbe.end("file", path, content != null, start, event);
     }
   }
 
@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.text.Template;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/// A configuration that replaces the placeholders in the value of another configuration,
+/// like `${env:HOME}/data` or `${property:app.dir}`.
+///
+/// The built-in sources for the placeholders are `env`, `property`, `file` and `resource`,
+/// each one resolved through the respective {@link Configuration} factory. Values of
+/// referenced sources are interpolated as well, and cyclic references are rejected. A placeholder
+/// whose source has no value fails the rendering instead of silently becoming empty.
+///
+/// The value is parsed into a {@link Template} and rendered only once. Subsequent reads
+/// return the same rendered value as long as neither the original value nor any of
+/// the referenced sources have changed. Files and resources are checked by their
+/// modification time and size, so they are only read again when they change.
+///
+/// @author Ataxexe
+/// @see Template
+public class InterpolatedConfiguration implements Configuration {
+
+  /// The sources available for placeholders by default.
+  public static final Map<String, Function<String, Configuration>> DEFAULT_SOURCES = Map.of(
+    "env", Configuration::env,
+    "property", Configuration::property,
+    "file", Configuration::file,
+    "resource", Configuration::resource
+  );
+
+  private final Configuration configuration;
+  private final Map<String, Function<String, Configuration>> sources;
+  private volatile Rendering rendering;
+
+  /// Creates a new configuration that interpolates the given one using the given sources.
+  ///
+  /// @param configuration the configuration holding the placeholders
+  /// @param sources       the functions to create the configurations referenced by placeholders,
+  ///                      mapped by the source name
+  public InterpolatedConfiguration(Configuration configuration,
+                                   Map<String, Function<String, Configuration>> sources) {
+    this.configuration = configuration;
+    this.sources = Map.copyOf(sources);
+  }
+
+  /// Creates a new configuration that interpolates the given one using the {@link #DEFAULT_SOURCES}.
+  ///
+  /// @param configuration the configuration holding the placeholders
+  public InterpolatedConfiguration(Configuration configuration) {
+    this(configuration, DEFAULT_SOURCES);
+  }
+
+  @Override
+  public boolean isSet() {
+    return configuration.isSet();
+  }
+
+  @Override
+  public String get() {
+    String text = configuration.get();
+    if (text == null) {
+      return null;
+    }
+    Rendering current = this.rendering;
+    if (current != null && current.isUpToDate(text)) {
+      return current.result();
+    }
+    Map<String, Template> parsed = current != null ? current.templates() : Map.of();
+    Renderer renderer = new Renderer(parsed);
+    String result = renderer.render(renderer.template(text));
+    this.rendering = new Rendering(text, renderer.dependencies, renderer.versions, renderer.templates, result);
+    return result;
+  }
+
+  private record Rendering(String text,
+                           Configuration[] dependencies,
+                           Object[] versions,
+                           Map<String, Template> templates,
+                           String result) {
+
+    Rendering(String text, List<Configuration> dependencies, List<Object> versions,
+              Map<String, Template> templates, String result) {
+      this(text, dependencies.toArray(Configuration[]::new), versions.toArray(), Map.copyOf(templates), result);
+    }
+
+    boolean isUpToDate(String text) {
+      if (!this.text.equals(text)) {
+        return false;
+      }
+      for (int i = 0; i < dependencies.length; i++) {
+        if (!Objects.equals(versions[i], versionOf(dependencies[i]))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+  private class Renderer {
+
+    private final LinkedHashSet<Template.Placeholder> path = new LinkedHashSet<>();
+    private final Map<Template.Placeholder, String> resolved = new HashMap<>();
+    private final List<Configuration> dependencies = new ArrayList<>();
+    private final List<Object> versions = new ArrayList<>();
+    private final Map<String, Template> parsed;
+    private final Map<String, Template> templates = new HashMap<>();
+
+    Renderer(Map<String, Template> parsed) {
+      this.parsed = parsed;
+    }
+
+    // reuses the templates parsed by the previous rendering, keeping only the ones still in use
+    Template template(String text) {
+      return templates.computeIfAbsent(text, t -> {
+        Template template = parsed.get(t);
+        return template != null ? template : Template.parse(t);
+      });
+    }
+
+    String render(Template template) {
+      return template.render(this::resolve);
+    }
+
+    String resolve(Template.Placeholder placeholder) {
+      if (resolved.containsKey(placeholder)) {
+        return resolved.get(placeholder);
+      }
+      if (!path.add(placeholder)) {
+        List<String> cycle = new ArrayList<>();
+        path.forEach(p -> cycle.add(p.toString()));
+        cycle.add(placeholder.toString());
+        throw new UnbelievableException("Cyclic reference: " + String.join(" -> ", cycle));
+      }
+
+      Function<String, Configuration> source = sources.get(placeholder.source());
+      if (source == null) {
+        throw new UnbelievableException("Unknown placeholder source: " + placeholder);
+      }
+      Configuration dependency = source.apply(placeholder.key());
+      // the version is taken before reading, so a change in between causes a new rendering
+      Object version = versionOf(dependency);
+      String value = valueOf(dependency);
+      dependencies.add(dependency);
+      versions.add(version);
+
+      if (value == null) {
+        throw new UnbelievableException("Unresolved placeholder: " + placeholder);
+      }
+      String result = render(template(value));
+
+      path.remove(placeholder);
+      resolved.put(placeholder, result);
+      return result;
+    }
+
+  }
+
+  private static String valueOf(Configuration configuration) {
+    return configuration.isSet() ? configuration.get() : null;
+  }
+
+  private static Object versionOf(Configuration configuration) {
+    return configuration instanceof Versioned versioned ? versioned.version() : valueOf(configuration);
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.configuration;
+
+import com.backpackcloud.metrics.Metrics;
+
+/// Reports the reads of the configuration sources to the {@link Metrics} and to the Flight Recorder.
+///
+/// @author Ataxexe
+final class ReadProbe {
+
+  private ReadProbe() {
+
+  }
+
+  /// @return the start of the read, or zero if nothing is being reported
+  static long start() {
+    return Metrics.enabled() ? System.nanoTime() : 0;
+  }
+
+  /// @return a new event, already started
+  static ConfigurationReadEvent event() {
+    ConfigurationReadEvent event = new ConfigurationReadEvent();
+    event.begin();
+    return event;
+  }
+
+  /// @param source the kind of the source that was read
+  /// @param path   the path of the value in the source
+  /// @param hit    if the source had a value
+  /// @param start  the result of {@link #start()}
+  /// @param event  the result of {@link #event()}
+  static void end(String source, String path, boolean hit, long start, ConfigurationReadEvent event) {
+    if (start != 0) {
+      Metrics.timer("configuration.read", "source", source).stop(start);
+    }
+    if (event.shouldCommit()) {
+      event.source = source;
+      event.path = path;
+      event.hit = hit;
+      event.commit();
+    }
+  }
+
+}
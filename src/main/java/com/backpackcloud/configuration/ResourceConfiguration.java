@@ -26,8 +26,11 @@ package com.backpackcloud.configuration;
 
 import com.backpackcloud.UnbelievableException;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -35,7 +38,7 @@ import java.util.Scanner;
 /// A configuration based on the existence of a resource in the classpath.
 ///
 /// @author Ataxexe
-public class ResourceConfiguration implements Configuration {
+public class ResourceConfiguration implements Configuration, Versioned {
 
   private final ClassLoader classLoader;
   private final String resourcePath;
@@ -56,15 +59,39 @@ public class ResourceConfiguration implements Configuration {
 
   @Override
   public String get() {
+    ConfigurationReadEvent event = ReadProbe.event();
+    long start = ReadProbe.start();
     InputStream inputStream = classLoader.getResourceAsStream(resourcePath);
-    if (inputStream != null) {
-      try (inputStream) {
-        return new String(inputStream.readAllBytes());
-      } catch (IOException e) {
-        throw new UnbelievableException(e);
+    try {
+      if (inputStream != null) {
+        try (inputStream) {
+          return new String(inputStream.readAllBytes());
+        } catch (IOException e) {
+          throw new UnbelievableException(e);
+        }
       }
+      return null;
+    } finally {
+      ReadProbe.end("resource", resourcePath, inputStream != null, start, event);
     }
-    return null;
+  }
+
+  // resources inside archives are not expected to change
+  @Override
+  public Object version() {
+    URL url = classLoader.getResource(resourcePath);
+    if (url == null) {
+      return null;
+    }
+    if ("file".equals(url.getProtocol())) {
+      try {
+        File file = new File(url.toURI());
+        return file.lastModified() + ":" + file.length();
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        return url.toExternalForm();
+      }
+    }
+    return url.toExternalForm();
   }
 
   @Override
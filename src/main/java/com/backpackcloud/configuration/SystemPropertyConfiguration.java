@@ -43,7 +43,11 @@ public class SystemPropertyConfiguration implements Configuration {
 
   @Override
   public String get() {
-    return System.getProperty(key);
+    ConfigurationReadEvent event = ReadProbe.event();
+    long start = ReadProbe.start();
+    String value = System.getProperty(key);
+    ReadProbe.end("property", key, value != null, start, event);
+    return value;
   }
 
 }
@@ -27,8 +27,10 @@ package com.backpackcloud.configuration;
 import com.backpackcloud.UnbelievableException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -71,11 +73,17 @@ public class UrlConfiguration implements Configuration {
   }
 
   private void load() {
-    if (content != null) {
+    if (content == null) {
+      ConfigurationReadEvent event = ReadProbe.event();
+      long start = ReadProbe.start();
       try {
-        content = url.getContent().toString();
+        try (InputStream input = url.openStream()) {
+          content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
       } catch (IOException e) {
         throw new UnbelievableException(e);
+      } finally {
+        ReadProbe.end("url", url.toExternalForm(), content != null, start, event);
       }
     }
   }
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.io;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/// A bounded and lock-free pool of Jackson buffers that is shared between threads.
+///
+/// The default Jackson pool keeps a buffer per thread, which is never reused when the work
+/// is done by short-lived virtual threads. This pool keeps a fixed number of buffers in slots
+/// claimed with a single compare-and-set, so acquiring and releasing never blocks. When the
+/// pool is empty a new buffer is created, and when it's full the released buffer is dropped.
+///
+/// @author Ataxexe
+/// @see SerialBitter#recyclerPool(RecyclerPool)
+public class BoundedRecyclerPool implements RecyclerPool<BufferRecycler> {
+
+  @Serial
+  private static final long serialVersionUID = 3207213594380717613L;
+
+  private static final BoundedRecyclerPool SHARED =
+    new BoundedRecyclerPool(4 * Runtime.getRuntime().availableProcessors());
+
+  private final int capacity;
+  private final transient AtomicReferenceArray<BufferRecycler> slots;
+
+  /// Creates a new pool that holds up to the given number of buffers.
+  ///
+  /// @param capacity the maximum number of buffers kept by the pool
+  public BoundedRecyclerPool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  /// @return the pool used by default in every {@link SerialBitter}
+  public static BoundedRecyclerPool shared() {
+    return SHARED;
+  }
+
+  @Override
+  public BufferRecycler acquirePooled() {
+    int start = start(capacity);
+    for (int i = 0; i < capacity; i++) {
+      int index = (start + i) % capacity;
+      BufferRecycler recycler = slots.get(index);
+      if (recycler != null && slots.compareAndSet(index, recycler, null)) {
+        return recycler;
+      }
+    }
+    return new BufferRecycler();
+  }
+
+  @Override
+  public void releasePooled(BufferRecycler recycler) {
+    int start = start(capacity);
+    for (int i = 0; i < capacity; i++) {
+      int index = (start + i) % capacity;
+      if (slots.get(index) == null && slots.compareAndSet(index, null, recycler)) {
+        return;
+      }
+    }
+  }
+
+  /// @return how many buffers are currently in the pool
+  public int available() {
+    int count = 0;
+    for (int i = 0; i < capacity; i++) {
+      if (slots.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // spreads the threads across the slots to reduce the contention
+  private static int start(int capacity) {
+    return (int) (Thread.currentThread().threadId() % capacity);
+  }
+
+  // the buffers are not serialized, only the capacity
+  @Serial
+  private Object readResolve() {
+    return new BoundedRecyclerPool(capacity);
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.io;
+
+import com.backpackcloud.UnbelievableException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/// A push-based deserializer that accepts the input in chunks, as they arrive, and emits
+/// each object as soon as its last token is read.
+///
+/// Only the tokens of the object being read are buffered, so the memory used is bounded by
+/// the size of a single object instead of the whole input. Multiple values at the root of the
+/// input are emitted one after another. If created to read elements, the root arrays are
+/// unwrapped and each of their elements is emitted instead.
+///
+/// ```java
+/// ChunkedDeserializer<Item> deserializer = serialBitter.elements(Item.class, items::add);
+/// deserializer.feed(chunk); // as many times as needed
+/// deserializer.end();
+/// ```
+///
+/// Instances are not thread safe, the chunks must be fed in order by a single thread at a time.
+///
+/// @param <E> the type of the emitted objects
+/// @author Ataxexe
+/// @see SerialBitter#chunked(Class, Consumer)
+/// @see SerialBitter#elements(Class, Consumer)
+public class ChunkedDeserializer<E> implements AutoCloseable {
+
+  private final ObjectMapper objectMapper;
+  private final Class<E> type;
+  private final Consumer<? super E> consumer;
+  private final boolean elements;
+  private final JsonParser parser;
+  private final ByteBufferFeeder feeder;
+
+  private TokenBuffer buffer;
+  private int depth;
+  private boolean insideArray;
+
+  ChunkedDeserializer(ObjectMapper objectMapper, Class<E> type, Consumer<? super E> consumer, boolean elements) {
+    this.objectMapper = objectMapper;
+    this.type = type;
+    this.consumer = consumer;
+    this.elements = elements;
+    try {
+      this.parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+    } catch (IOException | UnsupportedOperationException e) {
+      throw new UnbelievableException(
+        objectMapper.getFactory().getFormatName() + " doesn't support non-blocking parsing", e
+      );
+    }
+    this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  /// Feeds the next chunk of the input, emitting every object completed by it.
+  ///
+  /// The chunk is fully consumed before this method returns, so it can be reused afterward.
+  ///
+  /// @param chunk the next chunk of the input
+  /// @return a reference to this object
+  public ChunkedDeserializer<E> feed(ByteBuffer chunk) {
+    try {
+      feeder.feedInput(chunk);
+      drain();
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+    return this;
+  }
+
+  /// Short for {@code feed(ByteBuffer.wrap(chunk, offset, length))}
+  ///
+  /// @see #feed(ByteBuffer)
+  public ChunkedDeserializer<E> feed(byte[] chunk, int offset, int length) {
+    return feed(ByteBuffer.wrap(chunk, offset, length));
+  }
+
+  /// Short for {@code feed(ByteBuffer.wrap(chunk))}
+  ///
+  /// @see #feed(ByteBuffer)
+  public ChunkedDeserializer<E> feed(byte[] chunk) {
+    return feed(ByteBuffer.wrap(chunk));
+  }
+
+  /// Signals that there is no more input, emitting any pending object.
+  ///
+  /// @throws UnbelievableException if the input ended in the middle of an object
+  public void end() {
+    try {
+      feeder.endOfInput();
+      drain();
+      if (buffer != null || insideArray) {
+        throw new UnbelievableException("Unexpected end of input");
+      }
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    } finally {
+      close();
+    }
+  }
+
+  /// Releases the parser without checking for incomplete objects.
+  @Override
+  public void close() {
+    try {
+      parser.close();
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  private void drain() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (buffer == null) {
+        if (elements && !insideArray && token == JsonToken.START_ARRAY) {
+          insideArray = true;
+          continue;
+        }
+        if (insideArray && token == JsonToken.END_ARRAY) {
+          insideArray = false;
+          continue;
+        }
+        buffer = new TokenBuffer(parser);
+      }
+      buffer.copyCurrentEvent(parser);
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+      if (depth == 0) {
+        emit();
+      }
+    }
+  }
+
+  private void emit() throws IOException {
+    TokenBuffer tokens = buffer;
+    buffer = null;
+    try (JsonParser value = tokens.asParser(objectMapper)) {
+      consumer.accept(objectMapper.readValue(value, type));
+    }
+  }
+
+}
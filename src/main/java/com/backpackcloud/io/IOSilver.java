@@ -1,5 +1,8 @@
 package com.backpackcloud.io;
 
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
 import java.util.function.Supplier;
 
 /// A triad that dominated the western serial bitter movies. Able to tackle JSON, YAML
@@ -24,6 +27,18 @@ public class IOSilver {
     );
   }
 
+  /// Creates a new instance that uses the given pool of buffers for every format.
+  ///
+  /// @param pool the pool of buffers
+  /// @see SerialBitter#recyclerPool(RecyclerPool)
+  public IOSilver(RecyclerPool<BufferRecycler> pool) {
+    this(
+      () -> SerialBitter.JSON().recyclerPool(pool),
+      () -> SerialBitter.XML().recyclerPool(pool),
+      () -> SerialBitter.YAML().recyclerPool(pool)
+    );
+  }
+
   public IOSilver(Supplier<SerialBitter> jsonSupplier,
                   Supplier<SerialBitter> xmlSupplier,
                   Supplier<SerialBitter> yamlSupplier) {
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.io;
+
+import com.backpackcloud.UnbelievableException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// Binds the elements of a large file in parallel.
+///
+/// The file is tokenized once, by a single thread, only to find where each element starts
+/// and ends. The elements are then read from the file by their positions and bound
+/// concurrently by the threads of the parallel stream.
+///
+/// @author Ataxexe
+/// @see SerialBitter#parallelElements(File, Class, boolean)
+final class ParallelElements<E> extends Spliterators.AbstractSpliterator<ParallelElements.Range> {
+
+  private final ObjectMapper objectMapper;
+  private final Class<E> type;
+  private final JsonParser parser;
+  private final FileChannel channel;
+
+  private boolean started;
+  private boolean insideArray;
+
+  private ParallelElements(ObjectMapper objectMapper, Class<E> type, File file) throws IOException {
+    super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    this.objectMapper = objectMapper;
+    this.type = type;
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      this.parser = objectMapper.createParser(file);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /// Creates a parallel stream of the elements in the given file.
+  ///
+  /// If the file has an array at its root, the stream has the elements of that array.
+  /// Otherwise, each value at the root of the file is an element, which covers files
+  /// with one value per line. Files with one array per line are not supported: the
+  /// stream fails once it finds the second array.
+  ///
+  /// @param objectMapper the mapper to read the elements
+  /// @param file         the file to read
+  /// @param type         the type of the elements
+  /// @param ordered      if the elements should keep the order of the file
+  /// @return a stream that must be closed to release the file
+  static <E> Stream<E> stream(ObjectMapper objectMapper, File file, Class<E> type, boolean ordered) {
+    try {
+      ParallelElements<E> elements = new ParallelElements<>(objectMapper, type, file);
+      Stream<E> stream = StreamSupport.stream(elements, true)
+        .map(elements::bind)
+        .onClose(elements::close);
+      return ordered ? stream : stream.unordered();
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Range> action) {
+    try {
+      JsonToken token = parser.nextToken();
+      if (!started) {
+        started = true;
+        if (token == JsonToken.START_ARRAY) {
+          insideArray = true;
+          token = parser.nextToken();
+        }
+      }
+      if (insideArray && token == JsonToken.END_ARRAY) {
+        // the elements of the first array were already streamed, so other values can't be
+        if (parser.nextToken() != null) {
+          throw new UnbelievableException("Unexpected content after the array at the root of the file");
+        }
+        return false;
+      }
+      if (token == null) {
+        return false;
+      }
+      long start = parser.currentTokenLocation().getByteOffset();
+      parser.skipChildren();
+      // scalars are parsed lazily, so their end is only known after reading them entirely
+      parser.finishToken();
+      long end = parser.currentLocation().getByteOffset();
+      if (start < 0 || end < 0) {
+        throw new UnbelievableException(
+          objectMapper.getFactory().getFormatName() + " doesn't provide the positions of the elements"
+        );
+      }
+      action.accept(new Range(start, Math.toIntExact(end - start)));
+      return true;
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  // positional reads don't change the channel state, so they can be done concurrently
+  private E bind(Range range) {
+    try {
+      ByteBuffer buffer = ByteBuffer.allocate(range.length);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, range.start + buffer.position()) < 0) {
+          throw new UnbelievableException("Unexpected end of file");
+        }
+      }
+      return objectMapper.readValue(buffer.array(), type);
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  private void close() {
+    try (channel; parser) {
+      // closes both
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  record Range(long start, int length) {
+  }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.io;
+
+import com.backpackcloud.UnbelievableException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/// The values extracted from an input without binding the whole of it.
+///
+/// The values are found by streaming the tokens of the input: subtrees that don't lead to any
+/// of the requested pointers are skipped, and the reading stops as soon as every pointer
+/// was found. Only the extracted values are kept in memory.
+///
+/// @author Ataxexe
+/// @see SerialBitter#extract(String, String...)
+public class Projection {
+
+  private final ObjectMapper objectMapper;
+  private final Map<String, JsonNode> values;
+
+  private Projection(ObjectMapper objectMapper, Map<String, JsonNode> values) {
+    this.objectMapper = objectMapper;
+    this.values = values;
+  }
+
+  /// @param pointer the pointer of the value, as given to the extraction
+  /// @return {@code true} if the pointer was found in the input
+  public boolean contains(String pointer) {
+    return values.containsKey(pointer);
+  }
+
+  /// @param pointer the pointer of the value, as given to the extraction
+  /// @return the value found in the pointer
+  public Optional<JsonNode> node(String pointer) {
+    return Optional.ofNullable(values.get(pointer));
+  }
+
+  /// Binds the value found in the given pointer to the given type.
+  ///
+  /// @param pointer the pointer of the value, as given to the extraction
+  /// @param type    the type of the value
+  /// @return the value found in the pointer
+  public <E> Optional<E> get(String pointer, Class<E> type) {
+    JsonNode node = values.get(pointer);
+    if (node == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(objectMapper.treeToValue(node, type));
+    } catch (JsonProcessingException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Reads the values in the given pointers and closes the parser.
+  ///
+  /// @param objectMapper the mapper to read the values
+  /// @param parser       the parser of the input
+  /// @param pointers     the pointers of the values, following the JSON Pointer syntax
+  /// @return the extracted values
+  static Projection extract(ObjectMapper objectMapper, JsonParser parser, String... pointers) throws IOException {
+    Set<String> pending = new HashSet<>();
+    for (String pointer : pointers) {
+      // fails fast on malformed pointers and normalizes them
+      pending.add(JsonPointer.compile(pointer).toString());
+    }
+    Map<String, JsonNode> values = new HashMap<>();
+    try (parser) {
+      JsonToken token;
+      while (!pending.isEmpty() && (token = parser.nextToken()) != null) {
+        if (token == JsonToken.FIELD_NAME || token.isStructEnd()) {
+          continue;
+        }
+        String pointer = parser.getParsingContext().pathAsPointer().toString();
+        if (pending.remove(pointer)) {
+          JsonNode node = objectMapper.readTree(parser);
+          values.put(pointer, node);
+          resolveDescendants(pointer, node, pending, values);
+        } else if (token.isStructStart() && !leadsToAny(pointer, pending)) {
+          parser.skipChildren();
+        }
+      }
+    }
+    return new Projection(objectMapper, values);
+  }
+
+  // the subtree of a value was already read, so the pointers inside it can't be found later
+  private static void resolveDescendants(String pointer, JsonNode node, Set<String> pending, Map<String, JsonNode> values) {
+    String prefix = pointer + "/";
+    Iterator<String> iterator = pending.iterator();
+    while (iterator.hasNext()) {
+      String candidate = iterator.next();
+      if (candidate.startsWith(prefix)) {
+        iterator.remove();
+        JsonNode descendant = node.at(candidate.substring(pointer.length()));
+        if (!descendant.isMissingNode()) {
+          values.put(candidate, descendant);
+        }
+      }
+    }
+  }
+
+  private static boolean leadsToAny(String pointer, Set<String> pending) {
+    String prefix = pointer + "/";
+    for (String candidate : pending) {
+      if (candidate.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -27,12 +27,21 @@ package com.backpackcloud.io;
 import com.backpackcloud.UnbelievableException;
 import com.backpackcloud.io.deserializers.VersionDeserializer;
 import com.backpackcloud.io.serializers.VersionSerializer;
+import com.backpackcloud.metrics.Metrics;
 import com.backpackcloud.versiontm.Version;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -42,6 +51,10 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /// A simple and highly opinionated component based on the Jackson library to perform
 ///  serialization and deserialization.
@@ -51,6 +64,7 @@ public class SerialBitter implements Serializer, Deserializer {
 
   private final ObjectMapper objectMapper;
   private final InjectableValues.Std values;
+  private final String format;
 
   /// Creates a new instance that will delegate the operations to the given object mapper.
   ///
@@ -59,6 +73,7 @@ public class SerialBitter implements Serializer, Deserializer {
   /// @param objectMapper the mapper to delegate the operations
   public SerialBitter(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
+    this.format = objectMapper.getFactory().getFormatName();
 
     this.values = new InjectableValues.Std();
     this.objectMapper.setInjectableValues(values);
@@ -79,6 +94,20 @@ public class SerialBitter implements Serializer, Deserializer {
     return objectMapper;
   }
 
+  /// Changes the pool of buffers used by the underlying factory.
+  ///
+  /// The instances created by {@link #JSON()}, {@link #YAML()} and {@link #XML()} share the
+  /// {@link BoundedRecyclerPool#shared() same pool}, which works well with virtual threads.
+  /// Instances created from a given mapper keep the pool of its factory. The pools from
+  /// {@link JsonRecyclerPools} can also be used here.
+  ///
+  /// @param pool the pool of buffers to use
+  /// @return a reference to this object
+  public SerialBitter recyclerPool(RecyclerPool<BufferRecycler> pool) {
+    objectMapper.getFactory().setRecyclerPool(pool);
+    return this;
+  }
+
   /// Adds a dependency using the given type.
   ///
   /// The dependency will be injected whenever the injection point is of the given type.
@@ -93,8 +122,13 @@ public class SerialBitter implements Serializer, Deserializer {
 
   @Override
   public String serialize(Object object) {
+    SerializationEvent event = new SerializationEvent();
+    event.begin();
+    long start = Metrics.enabled() ? System.nanoTime() : 0;
     try {
-      return objectMapper.writeValueAsString(object);
+      String result = objectMapper.writeValueAsString(object);
+      report(event, "serialize", object == null ? Void.class : object.getClass(), start, result);
+      return result;
     } catch (JsonProcessingException e) {
       throw new UnbelievableException(e);
     }
@@ -107,8 +141,13 @@ public class SerialBitter implements Serializer, Deserializer {
   /// @return the deserialized object.
   @Override
   public <E> E deserialize(String input, Class<E> type) {
+    SerializationEvent event = new SerializationEvent();
+    event.begin();
+    long start = Metrics.enabled() ? System.nanoTime() : 0;
     try {
-      return objectMapper.readValue(input, type);
+      E result = objectMapper.readValue(input, type);
+      report(event, "deserialize", type, start, input);
+      return result;
     } catch (IOException e) {
       throw new UnbelievableException(e);
     }
@@ -121,8 +160,13 @@ public class SerialBitter implements Serializer, Deserializer {
   /// @return the deserialized object.
   @Override
   public <E> E deserialize(File file, Class<E> type) {
+    SerializationEvent event = new SerializationEvent();
+    event.begin();
+    long start = Metrics.enabled() ? System.nanoTime() : 0;
     try {
-      return objectMapper.readValue(file, type);
+      E result = objectMapper.readValue(file, type);
+      report(event, "deserialize", type, start, file.length());
+      return result;
     } catch (IOException e) {
       throw new UnbelievableException(e);
     }
@@ -135,26 +179,312 @@ public class SerialBitter implements Serializer, Deserializer {
   /// @return the deserialized object.
   @Override
   public <E> E deserialize(InputStream input, Class<E> type) {
+    SerializationEvent event = new SerializationEvent();
+    event.begin();
+    long start = Metrics.enabled() ? System.nanoTime() : 0;
+    try (input) {
+      E result = objectMapper.readValue(input, type);
+      report(event, "deserialize", type, start, -1);
+      return result;
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Enables deep merging for the properties of the given types when {@link #update(Object, String) updating}
+  /// existing objects.
+  ///
+  /// By default, a property present in the input replaces the current value. For a mergeable type,
+  /// the current value is updated instead: collections get the new elements appended, maps get the new
+  /// entries and objects get their properties updated recursively.
+  ///
+  /// This must be configured before the types are first deserialized.
+  ///
+  /// @param types the types to merge
+  /// @return a reference to this object
+  public SerialBitter mergeable(Class<?>... types) {
+    for (Class<?> type : types) {
+      objectMapper.configOverride(type).setMergeable(true);
+    }
+    return this;
+  }
+
+  /// Updates the given object with the values from the input, instead of creating a new one.
+  ///
+  /// Only the properties present in the input are changed.
+  ///
+  /// @param existing the object to update
+  /// @param input    the input with the new values
+  /// @return the updated object, which is the given one for objects, collections and maps
+  /// @see #mergeable(Class[])
+  public <E> E update(E existing, String input) {
+    try {
+      return objectMapper.readerForUpdating(existing).readValue(input);
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Updates the given object with the values from the input, instead of creating a new one.
+  ///
+  /// @param existing the object to update
+  /// @param input    the input with the new values
+  /// @return the updated object, which is the given one for objects, collections and maps
+  /// @see #update(Object, String)
+  public <E> E update(E existing, InputStream input) {
     try (input) {
-      return objectMapper.readValue(input, type);
+      return objectMapper.readerForUpdating(existing).readValue(input);
     } catch (IOException e) {
       throw new UnbelievableException(e);
     }
   }
 
+  /// Applies a JSON Merge Patch (RFC 7386) to the given object, changing it in place where possible.
+  ///
+  /// Objects in the patch are merged recursively, `null` removes map entries and clears properties,
+  /// and any other value replaces the current one.
+  ///
+  /// @param existing the object to patch
+  /// @param patch    the merge patch
+  /// @return the patched object, which is the given one unless the patch replaces it entirely
+  @SuppressWarnings("unchecked")
+  public <E> E patch(E existing, String patch) {
+    try {
+      return (E) merge(existing, objectMapper.readTree(patch));
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  private Object merge(Object target, JsonNode patch) throws IOException {
+    if (!patch.isObject()) {
+      // the replacement might not have the type of the current value, like 10.5 replacing 10
+      return patch.isNull() ? null : objectMapper.treeToValue(patch, Object.class);
+    }
+    if (!isPatchable(target)) {
+      // as in the RFC, the patch is merged into an empty object, so its nested nulls are removed
+      target = new LinkedHashMap<String, Object>();
+    }
+    if (target instanceof Map) {
+      @SuppressWarnings("unchecked")
+      Map<String, Object> map = (Map<String, Object>) target;
+      for (Map.Entry<String, JsonNode> field : patch.properties()) {
+        if (field.getValue().isNull()) {
+          map.remove(field.getKey());
+        } else {
+          map.put(field.getKey(), merge(map.get(field.getKey()), field.getValue()));
+        }
+      }
+      return map;
+    }
+
+    // nested objects are patched in place, everything else is left to Jackson
+    BeanDescription description = objectMapper.getSerializationConfig()
+      .introspect(objectMapper.constructType(target.getClass()));
+    ObjectNode remaining = objectMapper.createObjectNode();
+    for (Map.Entry<String, JsonNode> field : patch.properties()) {
+      Object current = field.getValue().isObject() ? currentValue(description, target, field.getKey()) : null;
+      if (!isPatchable(current) || merge(current, field.getValue()) != current) {
+        remaining.set(field.getKey(), field.getValue());
+      }
+    }
+    return remaining.isEmpty() ? target : objectMapper.readerForUpdating(target).readValue(remaining);
+  }
+
+  // maps and beans can be changed in place, other values are replaced
+  private static boolean isPatchable(Object value) {
+    return value instanceof Map || (value != null && !ClassUtil.isJDKClass(value.getClass())
+      && !value.getClass().isArray() && !value.getClass().isEnum());
+  }
+
+  private static Object currentValue(BeanDescription description, Object target, String name) {
+    for (BeanPropertyDefinition property : description.findProperties()) {
+      if (property.getName().equals(name) && property.getAccessor() != null) {
+        try {
+          return property.getAccessor().getValue(target);
+        } catch (IllegalArgumentException e) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  /// Deserializes the elements of the given file concurrently, using the common fork-join pool.
+  ///
+  /// The file is tokenized once to find the boundaries of the elements, and the binding of the
+  /// elements is spread across the threads of the parallel stream. If the file has an array at
+  /// its root, its elements are streamed, otherwise each root value is an element, as in files
+  /// with one value per line. Files with one array per line fail with an {@link UnbelievableException}.
+  ///
+  /// ```java
+  /// try (Stream<Item> items = serialBitter.parallelElements(file, Item.class, false)) {
+  ///   items.forEach(repository::save);
+  /// }
+  /// ```
+  ///
+  /// @param file    the file to read
+  /// @param type    the type of the elements
+  /// @param ordered {@code false} to allow the elements to come in any order, which scales better
+  /// @return a parallel stream of the elements, that must be closed to release the file
+  public <E> Stream<E> parallelElements(File file, Class<E> type, boolean ordered) {
+    return ParallelElements.stream(objectMapper, file, type, ordered);
+  }
+
+  /// Short for {@code parallelElements(file, type, true)}
+  ///
+  /// @see #parallelElements(File, Class, boolean)
+  public <E> Stream<E> parallelElements(File file, Class<E> type) {
+    return parallelElements(file, type, true);
+  }
+
+  /// Extracts the values in the given pointers, without binding the rest of the input.
+  ///
+  /// ```java
+  /// Projection projection = serialBitter.extract(input, "/meta/id", "/meta/version");
+  /// Optional<Integer> id = projection.get("/meta/id", Integer.class);
+  /// ```
+  ///
+  /// JSON and YAML contents are supported. XML contents are rejected, since the paths of their
+  /// elements don't follow the JSON Pointer syntax: the root element isn't part of the path
+  /// and repeated elements aren't arrays.
+  ///
+  /// @param input    the input to read
+  /// @param pointers the pointers of the values, following the JSON Pointer syntax
+  /// @return the extracted values
+  /// @throws UnbelievableException if the format doesn't support pointers
+  /// @see Projection
+  public Projection extract(String input, String... pointers) {
+    requirePointers();
+    try {
+      return Projection.extract(objectMapper, objectMapper.createParser(input), pointers);
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Extracts the values in the given pointers, without binding the rest of the file content.
+  ///
+  /// @param file     the file to read
+  /// @param pointers the pointers of the values, following the JSON Pointer syntax
+  /// @return the extracted values
+  /// @see #extract(String, String...)
+  public Projection extract(File file, String... pointers) {
+    requirePointers();
+    try {
+      return Projection.extract(objectMapper, objectMapper.createParser(file), pointers);
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Extracts the values in the given pointers, without binding the rest of the input.
+  ///
+  /// The input is closed as soon as all the pointers are found, or right away if the format
+  /// doesn't support pointers.
+  ///
+  /// @param input    the input to read
+  /// @param pointers the pointers of the values, following the JSON Pointer syntax
+  /// @return the extracted values
+  /// @see #extract(String, String...)
+  public Projection extract(InputStream input, String... pointers) {
+    requirePointers();
+    try (input) {
+      return Projection.extract(objectMapper, objectMapper.createParser(input), pointers);
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Creates a deserializer that accepts the input in chunks and passes each value found at
+  /// the root of the input to the given consumer as soon as it's complete.
+  ///
+  /// Only formats that support non-blocking parsing, like JSON, can be used.
+  ///
+  /// @param type     the type of the values
+  /// @param consumer the consumer of the values
+  /// @return a new chunked deserializer
+  /// @see ChunkedDeserializer
+  public <E> ChunkedDeserializer<E> chunked(Class<E> type, Consumer<? super E> consumer) {
+    return new ChunkedDeserializer<>(objectMapper, type, consumer, false);
+  }
+
+  /// Creates a deserializer that accepts the input in chunks and passes each element of the
+  /// array found at the root of the input to the given consumer as soon as it's complete.
+  ///
+  /// Only formats that support non-blocking parsing, like JSON, can be used.
+  ///
+  /// @param type     the type of the array elements
+  /// @param consumer the consumer of the array elements
+  /// @return a new chunked deserializer
+  /// @see ChunkedDeserializer
+  public <E> ChunkedDeserializer<E> elements(Class<E> type, Consumer<? super E> consumer) {
+    return new ChunkedDeserializer<>(objectMapper, type, consumer, true);
+  }
+
+  private void requirePointers() {
+    if ("XML".equals(format)) {
+      throw new UnbelievableException("Pointers can't be extracted from " + format + " contents");
+    }
+  }
+
+  // the text is only measured if something is being reported
+  private void report(SerializationEvent event, String operation, Class<?> type, long start, String text) {
+    long size = start != 0 || event.shouldCommit() ? utf8Length(text) : -1;
+    report(event, operation, type, start, size);
+  }
+
+  // the size in bytes of the text encoded as UTF-8, without encoding it
+  private static long utf8Length(String text) {
+    long size = text.length();
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= 0x800) {
+        // a surrogate pair takes 4 bytes, so only the low surrogate adds to its 2 chars
+        size += Character.isHighSurrogate(c) ? 0 : 2;
+      } else if (c >= 0x80) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  // the size of a stream is unknown without buffering it, so it's reported as -1
+  private void report(SerializationEvent event, String operation, Class<?> type, long start, long size) {
+    if (start != 0) {
+      Metrics.timer("serialbitter." + operation, "type", type.getName()).stop(start);
+      if (size >= 0) {
+        Metrics.histogram("serialbitter." + operation + ".size", "type", type.getName()).record(size);
+      }
+    }
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.type = type;
+      event.format = format;
+      event.size = size;
+      event.commit();
+    }
+  }
+
   /// @return a new serializer for json contents
   public static SerialBitter JSON() {
-    return new SerialBitter(new ObjectMapper());
+    return withSharedPool(new ObjectMapper());
   }
 
   /// @return a new serializer for yaml contents
   public static SerialBitter YAML() {
-    return new SerialBitter(new ObjectMapper(new YAMLFactory()));
+    return withSharedPool(new ObjectMapper(new YAMLFactory()));
   }
 
   /// @return a new serializer for xml contents
   public static SerialBitter XML() {
-    return new SerialBitter(new ObjectMapper(new XmlFactory()));
+    return withSharedPool(new ObjectMapper(new XmlFactory()));
+  }
+
+  // the mapper is created here, so there is no pool from the caller to keep
+  private static SerialBitter withSharedPool(ObjectMapper objectMapper) {
+    objectMapper.getFactory().setRecyclerPool(BoundedRecyclerPool.shared());
+    return new SerialBitter(objectMapper);
   }
 
 }
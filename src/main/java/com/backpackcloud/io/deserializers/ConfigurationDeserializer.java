@@ -38,49 +38,108 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.util.ClassUtil;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/// Deserializes a {@link Configuration} from either a plain value or an object
+/// that maps source keys to their locations, like:
+///
+/// ```yaml
+/// token:
+///   env: APP_TOKEN
+///   file: /run/secrets/app-token
+///   value: changeme
+/// ```
+///
+/// Sources are probed in the order they were {@link #register(String, Source) registered}
+/// and only until the first one that {@link Configuration#isSet() is set}. Any source
+/// after that is never even created.
+///
+/// The built-in sources are, in order: `env`, `property`, `file`, `resource`, `url`
+/// and `value`. If none of them is set, the node itself is used as a raw value.
+///
+/// @author Ataxexe
 public class ConfigurationDeserializer extends JsonDeserializer<Configuration> {
 
+  /// Creates a configuration from the value found under a source key.
+  @FunctionalInterface
+  public interface Source {
+
+    /// @param value   the (non-blank) value found under the source key
+    /// @param context the current deserialization context
+    /// @return the configuration pointed by the given value
+    Configuration create(String value, DeserializationContext context);
+
+  }
+
+  private record Entry(String key, Source source) {
+
+  }
+
+  private static final List<Entry> SOURCES = new CopyOnWriteArrayList<>();
+
+  static {
+    register("env", (value, context) -> new EnvironmentVariableConfiguration(value));
+    register("property", (value, context) -> new SystemPropertyConfiguration(value));
+    register("file", (value, context) -> new FileConfiguration(value));
+    register("resource", (value, context) -> new ResourceConfiguration(classLoader(context), value));
+    register("url", (value, context) -> new UrlConfiguration(value));
+    register("value", (value, context) -> new RawValueConfiguration(value));
+  }
+
+  /// Registers a new source, with the lowest priority among the already registered ones.
+  ///
+  /// Registering a key that is already registered replaces its source while keeping
+  /// its original priority.
+  ///
+  /// @param key    the key that identifies the source in the configuration node
+  /// @param source the function to create the configuration
+  public static void register(String key, Source source) {
+    Entry entry = new Entry(key, source);
+    synchronized (SOURCES) {
+      for (int i = 0; i < SOURCES.size(); i++) {
+        if (SOURCES.get(i).key().equals(key)) {
+          SOURCES.set(i, entry);
+          return;
+        }
+      }
+      SOURCES.add(entry);
+    }
+  }
+
+  /// Removes the source registered with the given key.
+  ///
+  /// @param key the key that identifies the source in the configuration node
+  /// @return {@code true} if there was a source registered with the given key
+  public static boolean unregister(String key) {
+    // same lock as register, so its index based replacement can't hit a shifted entry
+    synchronized (SOURCES) {
+      return SOURCES.removeIf(entry -> entry.key().equals(key));
+    }
+  }
+
   @Override
   public Configuration deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-    List<Configuration> configurations = new ArrayList<>();
     JsonNode jsonNode = ctxt.readTree(p);
 
-    Supplier<ClassLoader> classLoader = () -> {
-      try {
-        return (ClassLoader) ctxt.findInjectableValue(ClassUtil.classNameOf(ClassLoader.class), null, null);
-      } catch (Exception e) {
-        return Thread.currentThread().getContextClassLoader();
+    if (jsonNode.isObject()) {
+      for (Entry entry : SOURCES) {
+        JsonNode node = jsonNode.get(entry.key());
+        if (node == null) {
+          continue;
+        }
+        String value = node.asText();
+        if (!value.isBlank()) {
+          Configuration configuration = entry.source().create(value, ctxt);
+          if (configuration.isSet()) {
+            return configuration;
+          }
+        }
       }
-    };
-
-    ifNotBlank(jsonNode, "/env", EnvironmentVariableConfiguration::new, configurations::add);
-    ifNotBlank(jsonNode, "/property", SystemPropertyConfiguration::new, configurations::add);
-    ifNotBlank(jsonNode, "/file", FileConfiguration::new, configurations::add);
-    ifNotBlank(jsonNode, "/resource", s -> new ResourceConfiguration(classLoader.get(), s), configurations::add);
-    ifNotBlank(jsonNode, "/url", UrlConfiguration::new, configurations::add);
-    ifNotBlank(jsonNode, "/value", RawValueConfiguration::new, configurations::add);
-    ifNotBlank(jsonNode, "", RawValueConfiguration::new, configurations::add);
-
-    return configurations.stream()
-      .filter(Configuration::isSet)
-      .findFirst()
-      .orElse(Configuration.NOT_SUPPLIED);
-  }
-
-  private void ifNotBlank(JsonNode jsonNode,
-                          String pointer,
-                          Function<String, Configuration> function,
-                          Consumer<Configuration> consumer) {
-    String value = jsonNode.at(pointer).asText();
-    if (!value.isBlank()) {
-      consumer.accept(function.apply(value));
     }
+
+    String value = jsonNode.asText();
+    return value.isBlank() ? Configuration.NOT_SUPPLIED : new RawValueConfiguration(value);
   }
 
   @Override
@@ -88,4 +147,12 @@ public class ConfigurationDeserializer extends JsonDeserializer<Configuration> {
     return Configuration.NOT_SUPPLIED;
   }
 
+  private static ClassLoader classLoader(DeserializationContext context) {
+    try {
+      return (ClassLoader) context.findInjectableValue(ClassUtil.classNameOf(ClassLoader.class), null, null);
+    } catch (Exception e) {
+      return Thread.currentThread().getContextClassLoader();
+    }
+  }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.metrics;
+
+/// The entry point for the metrics reported by fabric.
+///
+/// Metrics are disabled by default. Instrumented code checks {@link #enabled()} before doing
+/// anything, so the only cost while disabled is a volatile read.
+///
+/// ```java
+/// SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+/// Metrics.enable(registry);
+/// ```
+///
+/// The reported metrics are:
+///
+/// - `serialbitter.serialize` and `serialbitter.deserialize` timers, tagged with `type`
+/// - `serialbitter.serialize.size` and `serialbitter.deserialize.size` histograms, in UTF-8 bytes
+///   for text inputs and raw bytes for files, tagged with `type`
+/// - `configuration.read` timer, tagged with `source`
+/// - `mirror.reflect` counter and `mirror.scan` counter, tagged with `kind`
+/// - `context.create` timer, tagged with `type`
+///
+/// @author Ataxexe
+public final class Metrics {
+
+  private static volatile MetricsRegistry registry = MetricsRegistry.NOOP;
+  private static volatile boolean enabled;
+
+  private Metrics() {
+
+  }
+
+  /// Starts reporting the metrics to the given registry.
+  ///
+  /// @param registry the registry to report
+  public static void enable(MetricsRegistry registry) {
+    Metrics.registry = registry;
+    Metrics.enabled = registry != MetricsRegistry.NOOP;
+  }
+
+  /// Stops reporting the metrics.
+  public static void disable() {
+    enable(MetricsRegistry.NOOP);
+  }
+
+  /// @return {@code true} if the metrics are being reported
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /// @return the registry the metrics are reported to
+  public static MetricsRegistry registry() {
+    return registry;
+  }
+
+  /// @see MetricsRegistry#counter(String, String...)
+  public static Counter counter(String name, String... tags) {
+    return registry.counter(name, tags);
+  }
+
+  /// @see MetricsRegistry#timer(String, String...)
+  public static Timer timer(String name, String... tags) {
+    return registry.timer(name, tags);
+  }
+
+  /// @see MetricsRegistry#histogram(String, String...)
+  public static Histogram histogram(String name, String... tags) {
+    return registry.histogram(name, tags);
+  }
+
+}
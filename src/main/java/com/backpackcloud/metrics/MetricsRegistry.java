@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.metrics;
+
+/// The point where the metrics reported by fabric end up.
+///
+/// Implement this interface to bridge the metrics to an external registry. The tags are given
+/// as a sequence of key and value pairs, and implementations are expected to return the same
+/// metric for the same name and tags.
+///
+/// @author Ataxexe
+/// @see Metrics#enable(MetricsRegistry)
+/// @see SimpleMetricsRegistry
+public interface MetricsRegistry {
+
+  /// A registry that discards everything.
+  MetricsRegistry NOOP = new MetricsRegistry() {
+
+    private static final Counter COUNTER = amount -> {
+    };
+    private static final Timer TIMER = nanos -> {
+    };
+    private static final Histogram HISTOGRAM = value -> {
+    };
+
+    @Override
+    public Counter counter(String name, String... tags) {
+      return COUNTER;
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+      return TIMER;
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+      return HISTOGRAM;
+    }
+
+  };
+
+  /// @param name the name of the counter
+  /// @param tags the tags of the counter, as key and value pairs
+  /// @return the counter with the given name and tags
+  Counter counter(String name, String... tags);
+
+  /// @param name the name of the timer
+  /// @param tags the tags of the timer, as key and value pairs
+  /// @return the timer with the given name and tags
+  Timer timer(String name, String... tags);
+
+  /// @param name the name of the histogram
+  /// @param tags the tags of the histogram, as key and value pairs
+  /// @return the histogram with the given name and tags
+  Histogram histogram(String name, String... tags);
+
+}
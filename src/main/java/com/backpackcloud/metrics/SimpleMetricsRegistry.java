@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/// An in-memory registry with no dependencies.
+///
+/// Counters are backed by a {@link LongAdder}. Timers and histograms share the same lock-free,
+/// log-linear buckets: each power of two is split in 8 buckets, so any recorded value is
+/// known with a precision of 12.5% without storing the values themselves.
+///
+/// @author Ataxexe
+public class SimpleMetricsRegistry implements MetricsRegistry {
+
+  private final Map<Key, SimpleCounter> counters = new ConcurrentHashMap<>();
+  private final Map<Key, Distribution> distributions = new ConcurrentHashMap<>();
+
+  @Override
+  public SimpleCounter counter(String name, String... tags) {
+    return counters.computeIfAbsent(new Key(name, tags), key -> new SimpleCounter());
+  }
+
+  @Override
+  public Distribution timer(String name, String... tags) {
+    return distributions.computeIfAbsent(new Key(name, tags), key -> new Distribution());
+  }
+
+  @Override
+  public Distribution histogram(String name, String... tags) {
+    return timer(name, tags);
+  }
+
+  /// @param name the name of the counter
+  /// @param tags the tags of the counter, as key and value pairs
+  /// @return the counter with the given name and tags, if it was already reported
+  public Optional<SimpleCounter> findCounter(String name, String... tags) {
+    return Optional.ofNullable(counters.get(new Key(name, tags)));
+  }
+
+  /// @param name the name of the timer or histogram
+  /// @param tags the tags of the timer or histogram, as key and value pairs
+  /// @return the timer or histogram with the given name and tags, if it was already reported
+  public Optional<Distribution> findDistribution(String name, String... tags) {
+    return Optional.ofNullable(distributions.get(new Key(name, tags)));
+  }
+
+  private record Key(String name, List<String> tags) {
+
+    private Key(String name, String... tags) {
+      this(name, Arrays.asList(tags));
+    }
+
+  }
+
+  /// A counter backed by a {@link LongAdder}.
+  public static class SimpleCounter implements Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public void add(long amount) {
+      count.add(amount);
+    }
+
+    /// @return the current count
+    public long count() {
+      return count.sum();
+    }
+
+  }
+
+  /// The distribution of the values recorded by a timer or histogram.
+  public static class Distribution implements Timer, Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void record(long value) {
+      long v = Math.max(value, 0);
+      buckets.incrementAndGet(bucketOf(v));
+      count.increment();
+      sum.add(v);
+      max.accumulate(v);
+    }
+
+    /// @return how many values were recorded
+    public long count() {
+      return count.sum();
+    }
+
+    /// @return the sum of the recorded values
+    public long sum() {
+      return sum.sum();
+    }
+
+    /// @return the highest recorded value
+    public long max() {
+      return max.get();
+    }
+
+    /// Estimates the value below which the given fraction of the recorded values fall.
+    ///
+    /// @param quantile the quantile, between 0 and 1
+    /// @return the lower bound of the bucket that holds the quantile
+    public long percentile(double quantile) {
+      long total = count();
+      if (total == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(quantile * total));
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (seen >= rank) {
+          return lowerBoundOf(i);
+        }
+      }
+      return max();
+    }
+
+    static int bucketOf(long value) {
+      if (value < SUB_BUCKETS) {
+        return (int) value;
+      }
+      int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+      int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBoundOf(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+        return bucket;
+      }
+      int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      long sub = bucket % SUB_BUCKETS;
+      return (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.preferences;
+
+import com.backpackcloud.reflection.GeneratedMetadata;
+
+import java.util.List;
+import java.util.Optional;
+
+/// A registry generated at compile time with the static {@link PreferenceSpec} fields of a class.
+///
+/// @author Ataxexe
+/// @see com.backpackcloud.reflection.GenerateMetadata
+/// @see UserPreferences#register(Class)
+public interface PreferenceRegistry {
+
+  /// The suffix of the generated registries.
+  String SUFFIX = "PreferenceRegistry";
+
+  /// @return the specs declared in the class
+  List<PreferenceSpec<?>> specs();
+
+  /// Finds the registry generated for the given class.
+  ///
+  /// @param container the class declaring the specs
+  /// @return the generated registry, or an empty Optional if there is none
+  static Optional<PreferenceRegistry> of(Class<?> container) {
+    return GeneratedMetadata.find(container, SUFFIX, PreferenceRegistry.class);
+  }
+
+}
@@ -27,6 +27,8 @@ package com.backpackcloud.preferences;
 import com.backpackcloud.UnbelievableException;
 import com.backpackcloud.reflection.Mirror;
 import com.backpackcloud.reflection.predicates.FieldPredicates;
+import com.backpackcloud.reflection.scan.ClassIndex;
+import com.backpackcloud.reflection.scan.ClassInfo;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -59,7 +61,17 @@ public class UserPreferences {
     }
   }
 
+  /// Registers all the static specs declared in the given class.
+  ///
+  /// If a {@link PreferenceRegistry} was generated for the class, it's used instead of reflection.
+  ///
+  /// @param container the class declaring the specs
   public void register(Class container) {
+    Optional<PreferenceRegistry> registry = PreferenceRegistry.of(container);
+    if (registry.isPresent()) {
+      registry.get().specs().forEach(this::register);
+      return;
+    }
     Mirror.reflect(container).fields().stream()
       .filter(FieldPredicates.ofType(PreferenceSpec.class))
       .filter(field -> Modifier.isStatic(field.getModifiers()))
@@ -73,6 +85,18 @@ public class UserPreferences {
       .forEach(this::register);
   }
 
+  /// Registers the preferences of every class in the given index that declares
+  /// static {@link PreferenceSpec} fields, without having to list the classes by hand.
+  ///
+  /// @param index       the index to look for the classes
+  /// @param classLoader the class loader to load the classes
+  /// @see #register(Class)
+  public void register(ClassIndex index, ClassLoader classLoader) {
+    for (ClassInfo info : index.withStaticFieldsOf(PreferenceSpec.class)) {
+      register(info.load(classLoader));
+    }
+  }
+
   /**
    * Finds the preference identified by the given id.
    * <p>
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// An index of the annotated members of a class, mapped by their annotation types.
+///
+/// Only annotations visible at runtime are indexed.
+///
+/// @author Ataxexe
+/// @see Mirror#annotationIndex()
+public final class AnnotationIndex {
+
+  private final Map<Class<? extends Annotation>, List<Field>> fields;
+  private final Map<Class<? extends Annotation>, List<Method>> methods;
+  private final Map<Class<? extends Annotation>, List<Constructor>> constructors;
+  private final Map<Class<? extends Annotation>, List<Parameter>> parameters;
+
+  AnnotationIndex(List<Field> fields, List<Method> methods, List<Constructor> constructors) {
+    this.fields = index(fields);
+    this.methods = index(methods);
+    this.constructors = index(constructors);
+
+    List<Parameter> allParameters = new ArrayList<>();
+    for (Executable executable : methods) {
+      allParameters.addAll(List.of(executable.getParameters()));
+    }
+    for (Executable executable : constructors) {
+      allParameters.addAll(List.of(executable.getParameters()));
+    }
+    this.parameters = index(allParameters);
+  }
+
+  /// @param type the annotation type
+  /// @return the fields annotated with the given annotation.
+  public List<Field> fields(Class<? extends Annotation> type) {
+    return fields.getOrDefault(type, List.of());
+  }
+
+  /// @param type the annotation type
+  /// @return the methods annotated with the given annotation.
+  public List<Method> methods(Class<? extends Annotation> type) {
+    return methods.getOrDefault(type, List.of());
+  }
+
+  /// @param type the annotation type
+  /// @return the constructors annotated with the given annotation.
+  public List<Constructor> constructors(Class<? extends Annotation> type) {
+    return constructors.getOrDefault(type, List.of());
+  }
+
+  /// @param type the annotation type
+  /// @return the method and constructor parameters annotated with the given annotation.
+  public List<Parameter> parameters(Class<? extends Annotation> type) {
+    return parameters.getOrDefault(type, List.of());
+  }
+
+  /// @return every annotation type found in the indexed members and parameters.
+  public Set<Class<? extends Annotation>> annotationTypes() {
+    Set<Class<? extends Annotation>> result = new HashSet<>(fields.keySet());
+    result.addAll(methods.keySet());
+    result.addAll(constructors.keySet());
+    result.addAll(parameters.keySet());
+    return Set.copyOf(result);
+  }
+
+  private static <E extends AnnotatedElement> Map<Class<? extends Annotation>, List<E>> index(List<E> elements) {
+    Map<Class<? extends Annotation>, List<E>> result = new HashMap<>();
+    for (E element : elements) {
+      for (Annotation annotation : element.getAnnotations()) {
+        result.computeIfAbsent(annotation.annotationType(), type -> new ArrayList<>()).add(element);
+      }
+    }
+    result.replaceAll((type, list) -> List.copyOf(list));
+    return Map.copyOf(result);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Optional;
+
+/// A factory generated at compile time that creates instances of a class by calling its
+/// constructor directly.
+///
+/// The parameters of the constructor are generated as well, so their names, types and
+/// annotations are known without reflection, even if the class wasn't compiled with `-parameters`.
+///
+/// @param <T> the type of the created objects
+/// @author Ataxexe
+/// @see GenerateMetadata
+/// @see Context#create(Class)
+public interface ConstructorFactory<T> {
+
+  /// The suffix of the generated factories.
+  String SUFFIX = "ConstructorFactory";
+
+  /// @return the parameters of the constructor, in declaration order
+  List<ParameterMetadata> parameters();
+
+  /// Creates a new instance passing the given arguments to the constructor.
+  ///
+  /// @param args the arguments, in the same order as the {@link #parameters() parameters}
+  /// @return the created instance
+  /// @throws com.backpackcloud.UnbelievableException if a primitive parameter has a `null` argument
+  /// @throws IllegalArgumentException if an argument can't be unboxed and widened to a primitive parameter
+  T create(Object[] args);
+
+  /// Finds the factory generated for the given class.
+  ///
+  /// @param type the class to create instances
+  /// @return the generated factory, or an empty Optional if there is none
+  @SuppressWarnings("unchecked")
+  static <T> Optional<ConstructorFactory<T>> of(Class<T> type) {
+    return GeneratedMetadata.find(type, SUFFIX, ConstructorFactory.class)
+      .map(factory -> (ConstructorFactory<T>) factory);
+  }
+
+  /// The metadata of a constructor parameter.
+  ///
+  /// @param name        the name of the parameter, as declared in the source code
+  /// @param type        the erased type of the parameter
+  /// @param annotations the types of the annotations visible at runtime
+  record ParameterMetadata(String name, Class<?> type, List<Class<? extends Annotation>> annotations) {
+
+  }
+
+}
@@ -25,51 +25,91 @@
 package com.backpackcloud.reflection;
 
 import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.metrics.Metrics;
+import com.backpackcloud.reflection.ConstructorFactory.ParameterMetadata;
+import com.backpackcloud.reflection.predicates.ElementPredicate;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /// A class that aims to resolve {@link Parameter parameters} based on a definable context.
 ///
+/// A context can also act as a lightweight container: {@link #register(Class, Class, Scope) registered}
+/// components are injected into any parameter of their type and have their own constructor
+/// dependencies resolved recursively. The wiring of the components is computed and validated
+/// once, so looking up a component is a map read.
+///
 /// @author Ataxexe
 public class Context {
 
+  private static final ClassValue<Map<Executable, Parameter[]>> PARAMETERS = new ClassValue<>() {
+    @Override
+    protected Map<Executable, Parameter[]> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private final List<Context.Entry> entries;
-  private final Function<Parameter, Object> defaultValue;
+  private final Resolver defaultValue;
+  private final Map<Class<?>, Component<?>> components;
+  private volatile boolean wired;
 
   /// Creates a new context that will default to the result of the given function.
   ///
   /// @param function the function to resolve the parameter by default
   public Context(Function<Parameter, Object> function) {
-    this.entries = new ArrayList<>();
-    this.defaultValue = function;
+    this(Resolver.function(function));
   }
 
   /// Creates a new context that will default to the result of the given supplier.
   ///
   /// @param supplier the supplier to resolve the parameter by default
   public Context(Supplier<Object> supplier) {
-    this(parameter -> supplier.get());
+    this(Resolver.supplier(supplier));
   }
 
   /// Creates a new context that will default to the given object.
   ///
   /// @param defaultValue the object to resolve the parameter by default
   public Context(Object defaultValue) {
-    this(parameter -> defaultValue);
+    this(Resolver.constant(defaultValue));
   }
 
   /// Creates a new context that will default to {@code null}.
   public Context() {
-    this(parameter -> null);
+    this(Resolver.constant(null));
+  }
+
+  private Context(Resolver defaultValue) {
+    this.entries = new ArrayList<>();
+    this.defaultValue = defaultValue;
+    this.components = new ConcurrentHashMap<>();
   }
 
   /// Defines a condition for this context to resolve a parameter to the given object.
@@ -78,8 +118,7 @@ public class Context {
   /// @param object    the resolution object
   /// @return a reference to this context instance.
   public Context when(Predicate<? super Parameter> condition, Object object) {
-    this.entries.add(new Entry(condition, parameter -> object));
-    return this;
+    return add(new Entry(condition, Resolver.constant(object)));
   }
 
   /// Defines a condition for this context to resolve a parameter to the given supplier.
@@ -88,8 +127,7 @@ public class Context {
   /// @param supplier  the supplier to provide the resolution object
   /// @return a reference to this context instance.
   public Context when(Predicate<? super Parameter> condition, Supplier supplier) {
-    this.entries.add(new Entry(condition, parameter -> supplier.get()));
-    return this;
+    return add(new Entry(condition, Resolver.supplier(supplier)));
   }
 
   /// Defines a condition for this context to resolve a parameter to the given function.
@@ -98,24 +136,251 @@ public class Context {
   /// @param function  the function to provide the resolution object
   /// @return a reference to this context instance.
   public Context when(Predicate<? super Parameter> condition, Function<Parameter, Object> function) {
-    this.entries.add(new Entry(condition, function));
+    return add(new Entry(condition, Resolver.function(function)));
+  }
+
+  private Context add(Entry entry) {
+    this.entries.add(entry);
+    this.wired = false;
+    return this;
+  }
+
+  /// Registers a singleton component.
+  ///
+  /// @param type the class of the component
+  /// @return a reference to this context instance.
+  /// @see #register(Class, Class, Scope)
+  public <T> Context register(Class<T> type) {
+    return register(type, type, Scope.SINGLETON);
+  }
+
+  /// Registers a component with the given scope.
+  ///
+  /// @param type  the class of the component
+  /// @param scope the scope of the component
+  /// @return a reference to this context instance.
+  /// @see #register(Class, Class, Scope)
+  public <T> Context register(Class<T> type, Scope scope) {
+    return register(type, type, scope);
+  }
+
+  /// Registers a component that will be looked up and injected by the given contract and created
+  /// through the constructor of the given implementation.
+  ///
+  /// Any parameter of the contract type that doesn't match a {@link #when(Predicate, Object) condition}
+  /// will be resolved to the component.
+  ///
+  /// @param contract       the type used to look up the component
+  /// @param implementation the class used to create the component
+  /// @param scope          the scope of the component
+  /// @return a reference to this context instance.
+  public <T> Context register(Class<T> contract, Class<? extends T> implementation, Scope scope) {
+    if (!contract.isAssignableFrom(implementation)) {
+      throw new UnbelievableException(implementation + " is not a " + contract);
+    }
+    if (implementation.isInterface() || Modifier.isAbstract(implementation.getModifiers())) {
+      throw new UnbelievableException(implementation + " can't be instantiated");
+    }
+    this.components.put(contract, new Component<>(contract, implementation, scope, null));
+    this.wired = false;
+    return this;
+  }
+
+  /// Registers the given object as a singleton component.
+  ///
+  /// @param contract the type used to look up the component
+  /// @param instance the component instance
+  /// @return a reference to this context instance.
+  public <T> Context register(Class<T> contract, T instance) {
+    Objects.requireNonNull(instance, "The instance of " + contract + " can't be null");
+    this.components.put(contract, new Component<>(contract, null, Scope.SINGLETON, instance));
+    this.wired = false;
+    return this;
+  }
+
+  /// Computes and validates the wiring of every registered component.
+  ///
+  /// This is done automatically on the first lookup after any change, but calling it at startup
+  /// makes the wiring errors surface before any component is created.
+  ///
+  /// No condition or default value is run while wiring, so a constructor is only ruled out by
+  /// the ones {@link #when(Predicate, Object) set} to {@code null}.
+  ///
+  /// @return a reference to this context instance.
+  /// @throws UnbelievableException if a component can't be created or the dependencies have a cycle
+  public synchronized Context wire() {
+    if (wired) {
+      return this;
+    }
+    List<Component<?>> planned = new ArrayList<>();
+    for (Component<?> component : components.values()) {
+      if (component.implementation != null) {
+        component.prepare();
+        planned.add(component);
+      }
+    }
+    Set<Component<?>> visited = new LinkedHashSet<>();
+    for (Component<?> component : planned) {
+      checkCycles(component, new LinkedHashSet<>(), visited);
+    }
+    planned.forEach(Component::commit);
+    this.wired = true;
+    return this;
+  }
+
+  private void checkCycles(Component<?> component, LinkedHashSet<Component<?>> path, Set<Component<?>> visited) {
+    if (!path.add(component)) {
+      String cycle = path.stream()
+        .dropWhile(c -> c != component)
+        .map(c -> c.contract.getName())
+        .collect(Collectors.joining(" -> ", "", " -> " + component.contract.getName()));
+      throw new UnbelievableException("Dependency cycle: " + cycle);
+    }
+    if (visited.add(component)) {
+      // components registered with an instance have nothing to create
+      if (component.next != null) {
+        for (Component<?> dependency : component.next.dependencies) {
+          checkCycles(dependency, path, visited);
+        }
+      }
+    }
+    path.remove(component);
+  }
+
+  /// Looks up the component registered for the given contract, creating it if its scope requires.
+  ///
+  /// @param contract the type used to register the component
+  /// @return the component
+  /// @throws UnbelievableException if there is no component registered for the contract
+  public <T> T get(Class<T> contract) {
+    Component<T> component = component(contract);
+    if (component == null) {
+      throw new UnbelievableException("No component registered for " + contract);
+    }
+    return component.get();
+  }
+
+  /// @param contract the type used to register the component
+  /// @return {@code true} if there is a component registered for the contract
+  public boolean contains(Class<?> contract) {
+    return components.containsKey(contract);
+  }
+
+  /// Short for {@code bootstrap(List.of(types))}
+  ///
+  /// @see #bootstrap(Collection)
+  public Context bootstrap(Class<?>... types) {
+    return bootstrap(List.of(types));
+  }
+
+  /// Creates the given components and every component they depend on, running the
+  /// independent constructors concurrently on virtual threads.
+  ///
+  /// Classes that aren't registered yet are registered as singletons. A component is only
+  /// created after all of its dependencies, so the time taken is bounded by the longest chain
+  /// of dependencies instead of the sum of every constructor. No other constructor is started
+  /// after the first failure.
+  ///
+  /// @param types the components to create
+  /// @return a reference to this context instance.
+  /// @throws UnbelievableException with every failure as a suppressed exception
+  public Context bootstrap(Collection<Class<?>> types) {
+    for (Class<?> type : types) {
+      if (!components.containsKey(type)) {
+        register(type);
+      }
+    }
+    wire();
+    Map<Component<?>, CompletableFuture<Void>> tasks = new HashMap<>();
+    Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      for (Class<?> type : types) {
+        schedule(components.get(type), tasks, failures, executor);
+      }
+      CompletableFuture.allOf(tasks.values().toArray(CompletableFuture[]::new))
+        .handle((result, error) -> null)
+        .join();
+    } finally {
+      executor.shutdownNow();
+    }
+    if (!failures.isEmpty()) {
+      UnbelievableException exception = new UnbelievableException(
+        "Unable to bootstrap " + failures.size() + " component(s)"
+      );
+      failures.forEach(exception::addSuppressed);
+      throw exception;
+    }
     return this;
   }
 
+  private CompletableFuture<Void> schedule(Component<?> component,
+                                           Map<Component<?>, CompletableFuture<Void>> tasks,
+                                           Queue<Throwable> failures,
+                                           Executor executor) {
+    CompletableFuture<Void> task = tasks.get(component);
+    if (task != null) {
+      return task;
+    }
+    // the wiring is already validated, so there are no cycles to recurse into
+    List<Component<?>> dependencies = component.plan != null ? component.plan.dependencies : List.of();
+    CompletableFuture<?>[] required = new CompletableFuture[dependencies.size()];
+    for (int i = 0; i < required.length; i++) {
+      required[i] = schedule(dependencies.get(i), tasks, failures, executor);
+    }
+    task = CompletableFuture.allOf(required).thenRunAsync(() -> {
+      if (!failures.isEmpty()) {
+        throw new CancellationException();
+      }
+      // other scopes are created by the components that depend on them
+      if (component.scope == Scope.SINGLETON) {
+        try {
+          component.get();
+        } catch (RuntimeException e) {
+          failures.add(e);
+          throw e;
+        }
+      }
+    }, executor);
+    tasks.put(component, task);
+    return task;
+  }
+
+  private <T> Component<T> component(Class<T> contract) {
+    if (!wired) {
+      wire();
+    }
+    return (Component<T>) components.get(contract);
+  }
+
   /// Tries to resolve the argument that fits the given parameter.
   ///
   /// The conditions are checked in the order they were added to the context.
-  /// Only the first match is used.
+  /// Only the first match is used. If no condition matches, a component registered
+  /// for the parameter type is used.
   ///
   /// @param parameter the parameter to resolve the argument
   /// @return the found argument
   public Optional<Object> resolve(Parameter parameter) {
-    for (Context.Entry entry : entries) {
+    return Optional.ofNullable(argument(parameter));
+  }
+
+  // the nullable version of #resolve(Parameter), doesn't allocate anything by itself
+  private Object argument(Parameter parameter) {
+    List<Context.Entry> entries = this.entries;
+    for (int i = 0; i < entries.size(); i++) {
+      Context.Entry entry = entries.get(i);
       if (entry.predicate.test(parameter)) {
-        return Optional.ofNullable(entry.function.apply(parameter));
+        return entry.resolver.function.apply(parameter);
+      }
+    }
+    if (!components.isEmpty()) {
+      Component<?> component = component(parameter.getType());
+      if (component != null) {
+        return component.get();
       }
     }
-    return Optional.ofNullable(defaultValue.apply(parameter));
+    return defaultValue.function.apply(parameter);
   }
 
   /// Tries to resolve the arguments that matches each parameter.
@@ -126,63 +391,321 @@ public class Context {
   /// @param parameters the parameters to resolve the argument
   /// @return the found arguments
   public Object[] resolve(Parameter[] parameters) {
-    Object[] args = new Object[parameters.length];
+    return resolve(parameters, new Object[parameters.length]);
+  }
+
+  /// Resolves the arguments that matches each parameter into the given array.
+  ///
+  /// Reusing the same array for repeated invocations makes the resolution allocation free.
+  ///
+  /// @param parameters the parameters to resolve the argument
+  /// @param args       the array to store the arguments, must be at least as long as the parameters
+  /// @return the given array
+  public Object[] resolve(Parameter[] parameters, Object[] args) {
     for (int i = 0; i < parameters.length; i++) {
-      args[i] = resolve(parameters[i]).orElse(null);
+      args[i] = argument(parameters[i]);
     }
     return args;
   }
 
-  /// Short for {@code resolve(executable.getParameters())}
+  /// Short for {@code resolve(executable.getParameters())}, without copying the parameters.
   ///
   /// @see #resolve(Parameter[])
   public Object[] resolve(Executable executable) {
-    return resolve(executable.getParameters());
+    return resolve(parametersOf(executable));
+  }
+
+  /// Short for {@code resolve(executable.getParameters(), args)}, without copying the parameters.
+  ///
+  /// @see #resolve(Parameter[], Object[])
+  public Object[] resolve(Executable executable, Object[] args) {
+    return resolve(parametersOf(executable), args);
+  }
+
+  // Executable#getParameters clones the array on every call
+  private static Parameter[] parametersOf(Executable executable) {
+    Map<Executable, Parameter[]> cache = PARAMETERS.get(executable.getDeclaringClass());
+    Parameter[] parameters = cache.get(executable);
+    if (parameters == null) {
+      parameters = executable.getParameters();
+      cache.putIfAbsent(executable, parameters);
+    }
+    return parameters;
   }
 
   /// Tries to create an instance of the given class using this context to resolve any constructor parameter.
   ///
+  /// If a {@link ConstructorFactory} was generated for the class, the constructor is neither reflected
+  /// nor called through reflection, as long as the conditions checked are made of
+  /// {@link ElementPredicate element predicates} of names, types or annotations and the values don't
+  /// come from a {@link #when(Predicate, Function) function} of the parameter. Otherwise, the
+  /// constructor is reflected, as for classes without a generated factory. The parameter names are
+  /// the ones in the source code, even if the class wasn't compiled with `-parameters`.
+  /// Parameters of a registered component type are resolved to the component, which means
+  /// the whole dependency graph is created if needed.
+  ///
   /// @return the created instance
   public <T> T create(Class<T> objectClass) {
-    List<Constructor> constructors = Mirror.reflect(objectClass).constructors();
+    ContextCreateEvent event = new ContextCreateEvent();
+    event.begin();
+    long start = Metrics.enabled() ? System.nanoTime() : 0;
+    try {
+      return newInstance(objectClass);
+    } finally {
+      if (start != 0) {
+        Metrics.timer("context.create", "type", objectClass.getName()).stop(start);
+      }
+      if (event.shouldCommit()) {
+        event.type = objectClass;
+        event.commit();
+      }
+    }
+  }
+
+  private <T> T newInstance(Class<T> objectClass) {
+    if (!components.isEmpty() && !wired) {
+      wire();
+    }
+    Selection<T> selection = select(objectClass, true);
+    return selection.plan().create(selection.args());
+  }
+
+  private static <T> T instantiate(Constructor<T> constructor, Object[] args) {
+    try {
+      return constructor.newInstance(args);
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new UnbelievableException(e);
+    } catch (InvocationTargetException e) {
+      throw new UnbelievableException(e.getTargetException());
+    }
+  }
+
+  // Chooses the constructor and the resolution of each parameter upfront, so creating
+  // a component doesn't need to check the conditions again.
+  //
+  // A generated factory or a single constructor is always used, otherwise the first one that
+  // can be fully resolved: every parameter is either a component or resolves to a non-null value,
+  // be it from a condition or from the default value. When probing, the values are resolved to
+  // check that and kept, so the caller can use them instead of resolving again. Otherwise, nothing
+  // is resolved and only the conditions and defaults set to null make a constructor unfit.
+  private <T> Selection<T> select(Class<T> type, boolean probe) {
+    Optional<ConstructorFactory<T>> factory = ConstructorFactory.of(type);
+    if (factory.isPresent()) {
+      Plan<T> plan = plan(factory.get());
+      if (plan != null) {
+        return new Selection<>(plan, new Object[plan.arguments.size()]);
+      }
+    }
+    // Mirror lists raw constructors, so they are only typed once selected
+    List<?> constructors = Mirror.reflect(type).constructors();
     if (constructors.isEmpty()) {
-      throw new UnbelievableException("Object doesn't have a public accessible constructor");
-    }
-    if (constructors.size() == 1) {
-      try {
-        Constructor constructor = constructors.getFirst();
-        Object[] args = resolve(constructor);
-        return (T) constructor.newInstance(args);
-      } catch (InstantiationException | IllegalAccessException e) {
-        throw new UnbelievableException(e);
-      } catch (InvocationTargetException e) {
-        throw new UnbelievableException(e.getTargetException());
-      }
-    }
-    for (Constructor<?> constructor : constructors) {
-      Object[] args = resolve(constructor);
-      boolean valid = true;
-      for (Object arg : args) {
-        if (arg == null) {
-          valid = false;
+      throw new UnbelievableException(type + " doesn't have a public accessible constructor");
+    }
+    boolean single = constructors.size() == 1;
+    for (Object candidate : constructors) {
+      // the public constructors of a class always create instances of that class
+      @SuppressWarnings("unchecked")
+      Constructor<T> constructor = (Constructor<T>) candidate;
+      Parameter[] parameters = parametersOf(constructor);
+      List<Supplier<Object>> arguments = new ArrayList<>(parameters.length);
+      Object[] args = new Object[parameters.length];
+      List<Component<?>> dependencies = new ArrayList<>();
+      boolean satisfied = true;
+      for (int i = 0; i < parameters.length && satisfied; i++) {
+        Parameter parameter = parameters[i];
+        Optional<Resolver> matched = entries.stream()
+          .filter(entry -> entry.predicate.test(parameter))
+          .map(Entry::resolver)
+          .findFirst();
+        Component<?> dependency = matched.isEmpty() ? components.get(parameter.getType()) : null;
+        if (dependency != null) {
+          dependencies.add(dependency);
+          // components are only created when the plan is used
+          arguments.add(dependency::get);
+          continue;
+        }
+        Resolver resolver = matched.orElse(defaultValue);
+        arguments.add(() -> resolver.function.apply(parameter));
+        if (single) {
+          continue;
+        }
+        if (probe) {
+          args[i] = resolver.function.apply(parameter);
+          satisfied = args[i] != null;
+        } else {
+          satisfied = !resolver.isNull();
+        }
+      }
+      if (satisfied) {
+        // the generated factory still calls the constructor if it's the only one
+        ConstructorFactory<T> direct = single ? factory.orElse(null) : null;
+        return new Selection<>(new Plan<>(constructor, direct, arguments, dependencies), args);
+      }
+    }
+    throw new UnbelievableException("Unable to create an instance of " + type);
+  }
+
+  // Plans the creation through the generated factory, using only the generated metadata.
+  // Returns null if resolving a parameter needs its reflected version.
+  private <T> Plan<T> plan(ConstructorFactory<T> factory) {
+    List<ParameterMetadata> parameters = factory.parameters();
+    List<Supplier<Object>> arguments = new ArrayList<>(parameters.size());
+    List<Component<?>> dependencies = new ArrayList<>();
+    for (ParameterMetadata parameter : parameters) {
+      Resolver resolver = null;
+      for (Entry entry : entries) {
+        if (!testsMetadata(entry.predicate)) {
+          return null;
+        }
+        // the predicates testing metadata are element predicates of parameters
+        @SuppressWarnings("unchecked")
+        Predicate<Object> predicate = (Predicate<Object>) entry.predicate;
+        if (predicate.test(parameter)) {
+          resolver = entry.resolver;
           break;
         }
       }
-      if (valid) {
-        try {
-          return (T) constructor.newInstance(args);
-        } catch (InstantiationException | IllegalAccessException e) {
-          throw new UnbelievableException(e);
-        } catch (InvocationTargetException e) {
-          throw new UnbelievableException(e.getTargetException());
+      if (resolver == null) {
+        Component<?> dependency = components.get(parameter.type());
+        if (dependency != null) {
+          dependencies.add(dependency);
+          arguments.add(dependency::get);
+          continue;
+        }
+        resolver = defaultValue;
+      }
+      if (resolver.parameterized) {
+        return null;
+      }
+      Function<Parameter, Object> function = resolver.function;
+      arguments.add(() -> function.apply(null));
+    }
+    return new Plan<>(null, factory, arguments, dependencies);
+  }
+
+  // whether the predicate can be tested against the generated parameter metadata
+  private static boolean testsMetadata(Predicate<?> predicate) {
+    return switch (predicate) {
+      case ElementPredicate.Named<?> named -> true;
+      case ElementPredicate.Typed<?> typed -> true;
+      case ElementPredicate.Annotated<?> annotated -> true;
+      case ElementPredicate.All<?> all -> all.predicates().stream().allMatch(Context::testsMetadata);
+      case ElementPredicate.Any<?> any -> any.predicates().stream().allMatch(Context::testsMetadata);
+      case ElementPredicate.Not<?> not -> testsMetadata(not.predicate());
+      default -> false;
+    };
+  }
+
+  private record Selection<T>(Plan<T> plan, Object[] args) {
+  }
+
+  private record Entry(Predicate<? super Parameter> predicate, Resolver resolver) {
+  }
+
+  // How a condition or the default value resolves a parameter. Only functions need
+  // the parameter itself, and only constants are known without resolving anything.
+  private record Resolver(Function<Parameter, Object> function, boolean parameterized, boolean isNull) {
+
+    private static Resolver constant(Object value) {
+      return new Resolver(parameter -> value, false, value == null);
+    }
+
+    private static Resolver supplier(Supplier<?> supplier) {
+      return new Resolver(parameter -> supplier.get(), false, false);
+    }
+
+    private static Resolver function(Function<Parameter, Object> function) {
+      return new Resolver(function, true, false);
+    }
+
+  }
+
+  private final class Plan<T> {
+
+    private final Constructor<T> constructor;
+    private final ConstructorFactory<T> factory;
+    private final List<Supplier<Object>> arguments;
+    private final List<Component<?>> dependencies;
+
+    private Plan(Constructor<T> constructor, ConstructorFactory<T> factory,
+                 List<Supplier<Object>> arguments, List<Component<?>> dependencies) {
+      this.constructor = constructor;
+      this.factory = factory;
+      this.arguments = arguments;
+      this.dependencies = dependencies;
+    }
+
+    private T create() {
+      return create(new Object[arguments.size()]);
+    }
+
+    // only resolves the arguments that are still missing
+    private T create(Object[] args) {
+      for (int i = 0; i < args.length; i++) {
+        if (args[i] == null) {
+          args[i] = arguments.get(i).get();
         }
       }
+      return factory != null ? factory.create(args) : instantiate(constructor, args);
     }
-    throw new UnbelievableException("Unable to create an instance of " + objectClass);
+
   }
 
-  private record Entry(Predicate<? super Parameter> predicate,
-                       Function<Parameter, Object> function) {
+  private final class Component<T> {
+
+    private final Class<T> contract;
+    private final Class<? extends T> implementation;
+    private final Scope scope;
+    private final ThreadLocal<T> local;
+    private final Lock lock = new ReentrantLock();
+    private volatile Plan<? extends T> plan;
+    // the plan being validated by the wiring
+    private Plan<? extends T> next;
+    private volatile T instance;
+
+    private Component(Class<T> contract, Class<? extends T> implementation, Scope scope, T instance) {
+      this.contract = contract;
+      this.implementation = implementation;
+      this.scope = scope;
+      this.instance = instance;
+      this.local = scope == Scope.THREAD ? ThreadLocal.withInitial(() -> plan.create()) : null;
+    }
+
+    // the constructor is chosen without running any condition or default value
+    private void prepare() {
+      this.next = select(implementation, false).plan();
+    }
+
+    private void commit() {
+      this.plan = next;
+      this.next = null;
+    }
+
+    private T get() {
+      return switch (scope) {
+        case PROTOTYPE -> plan.create();
+        case THREAD -> local.get();
+        case SINGLETON -> {
+          // reads don't lock, only the first creation does
+          T result = instance;
+          if (result == null) {
+            // not synchronized to avoid pinning virtual threads while the constructor blocks
+            lock.lock();
+            try {
+              result = instance;
+              if (result == null) {
+                result = plan.create();
+                instance = result;
+              }
+            } finally {
+              lock.unlock();
+            }
+          }
+          yield result;
+        }
+      };
+    }
+
   }
 
 }
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection;
+
+import com.backpackcloud.UnbelievableException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/// An accessor for a field, backed by a {@link VarHandle}.
+///
+/// Access is checked once, when the accessor is created, and the primitive variants
+/// don't box the values. Private fields are also supported, as long as the declaring
+/// class is open for deep reflection.
+///
+/// For static fields, the target object is ignored and might be `null`.
+///
+/// Final fields can be read, but trying to change them will result in an
+/// {@link UnsupportedOperationException}.
+///
+/// @author Ataxexe
+/// @see Mirror#accessor(String)
+public final class FieldAccessor {
+
+  private final Field field;
+  private final VarHandle handle;
+  private final boolean isStatic;
+
+  /// Creates a new accessor for the given field.
+  ///
+  /// @param field the field to access
+  /// @throws UnbelievableException if the field can't be accessed
+  public FieldAccessor(Field field) {
+    this.field = field;
+    this.isStatic = Modifier.isStatic(field.getModifiers());
+    try {
+      this.handle = unreflect(field);
+    } catch (IllegalAccessException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  private static VarHandle unreflect(Field field) throws IllegalAccessException {
+    try {
+      return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectVarHandle(field);
+    } catch (IllegalAccessException e) {
+      // not open for deep reflection, but public members are still reachable
+      return MethodHandles.publicLookup().unreflectVarHandle(field);
+    }
+  }
+
+  /// @return the field this accessor is for
+  public Field field() {
+    return field;
+  }
+
+  /// @return the type of the field
+  public Class<?> type() {
+    return field.getType();
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the field, boxed if the field is primitive
+  public Object get(Object target) {
+    return isStatic ? (Object) handle.get() : (Object) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the field
+  public void set(Object target, Object value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `int` field
+  public int getInt(Object target) {
+    return isStatic ? (int) handle.get() : (int) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `int` field
+  public void setInt(Object target, int value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `long` field
+  public long getLong(Object target) {
+    return isStatic ? (long) handle.get() : (long) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `long` field
+  public void setLong(Object target, long value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `double` field
+  public double getDouble(Object target) {
+    return isStatic ? (double) handle.get() : (double) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `double` field
+  public void setDouble(Object target, double value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `float` field
+  public float getFloat(Object target) {
+    return isStatic ? (float) handle.get() : (float) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `float` field
+  public void setFloat(Object target, float value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `boolean` field
+  public boolean getBoolean(Object target) {
+    return isStatic ? (boolean) handle.get() : (boolean) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `boolean` field
+  public void setBoolean(Object target, boolean value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `short` field
+  public short getShort(Object target) {
+    return isStatic ? (short) handle.get() : (short) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `short` field
+  public void setShort(Object target, short value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `byte` field
+  public byte getByte(Object target) {
+    return isStatic ? (byte) handle.get() : (byte) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `byte` field
+  public void setByte(Object target, byte value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+  /// @param target the object holding the field
+  /// @return the value of the `char` field
+  public char getChar(Object target) {
+    return isStatic ? (char) handle.get() : (char) handle.get(target);
+  }
+
+  /// @param target the object holding the field
+  /// @param value  the new value of the `char` field
+  public void setChar(Object target, char value) {
+    if (isStatic) {
+      handle.set(value);
+    } else {
+      handle.set(target, value);
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// Finds the classes generated at compile time for a given class.
+///
+/// A generated class lives in the same package as the class it was generated for and is
+/// named after it, followed by `_` and a suffix (like `Outer$Inner_ConstructorFactory`).
+/// The generated classes are registered as services of the interface they implement, so they
+/// are found through a {@link ServiceLoader} and only the matching one is instantiated.
+/// Lookups are cached, including the misses.
+///
+/// @author Ataxexe
+/// @see GenerateMetadata
+public final class GeneratedMetadata {
+
+  private static final ClassValue<Map<String, Optional<Object>>> CACHE = new ClassValue<>() {
+    @Override
+    protected Map<String, Optional<Object>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private GeneratedMetadata() {
+
+  }
+
+  /// @param type   the class the metadata was generated for
+  /// @param suffix the suffix of the generated class
+  /// @return the binary name of the generated class
+  public static String nameOf(Class<?> type, String suffix) {
+    return type.getName() + "_" + suffix;
+  }
+
+  /// Finds and instantiates the class generated for the given type.
+  ///
+  /// @param type   the class the metadata was generated for
+  /// @param suffix the suffix of the generated class
+  /// @param kind   the interface the generated class implements
+  /// @return an instance of the generated class, or an empty Optional if there is none
+  public static <E> Optional<E> find(Class<?> type, String suffix, Class<E> kind) {
+    return CACHE.get(type)
+      .computeIfAbsent(suffix, s -> load(type, s, kind))
+      .map(kind::cast);
+  }
+
+  private static Optional<Object> load(Class<?> type, String suffix, Class<?> kind) {
+    ClassLoader classLoader = type.getClassLoader();
+    if (classLoader == null) {
+      return Optional.empty();
+    }
+    String name = nameOf(type, suffix);
+    return ServiceLoader.load(kind, classLoader).stream()
+      .filter(provider -> provider.type().getName().equals(name))
+      .findFirst()
+      .map(provider -> (Object) provider.get());
+  }
+
+}
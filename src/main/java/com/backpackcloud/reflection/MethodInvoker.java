@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection;
+
+import com.backpackcloud.UnbelievableException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/// A fast invoker for a method, backed by a {@link MethodHandle}.
+///
+/// The handle is adapted once to a generic signature, so there are no access checks
+/// or argument array copies on each call, unlike {@link Method#invoke(Object, Object...)}.
+/// Private methods are also supported, as long as the declaring class is open for deep
+/// reflection.
+///
+/// For static methods, the target object is ignored and might be `null`.
+///
+/// @author Ataxexe
+/// @see Mirror#invoker(String, Class[])
+public final class MethodInvoker {
+
+  private final Method method;
+  private final MethodHandle handle;
+
+  /// Creates a new invoker for the given method.
+  ///
+  /// @param method the method to invoke
+  /// @throws UnbelievableException if the method can't be accessed
+  public MethodInvoker(Method method) {
+    this.method = method;
+    try {
+      MethodHandle methodHandle = unreflect(method);
+      if (Modifier.isStatic(method.getModifiers())) {
+        methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+      }
+      int arity = method.getParameterCount();
+      this.handle = methodHandle
+        .asType(MethodType.genericMethodType(arity + 1))
+        .asSpreader(Object[].class, arity);
+    } catch (IllegalAccessException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+    try {
+      return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup()).unreflect(method);
+    } catch (IllegalAccessException e) {
+      // not open for deep reflection, but public members are still reachable
+      return MethodHandles.publicLookup().unreflect(method);
+    }
+  }
+
+  /// @return the method this invoker is for
+  public Method method() {
+    return method;
+  }
+
+  /// Invokes the method.
+  ///
+  /// Any exception thrown by the method is wrapped in an {@link UnbelievableException}.
+  /// Errors are propagated as they are.
+  ///
+  /// @param target the object to invoke the method on
+  /// @param args   the arguments of the method
+  /// @return the value returned by the method, boxed if it's a primitive, or `null` if the method is `void`
+  public Object invoke(Object target, Object... args) {
+    try {
+      return (Object) handle.invokeExact(target, args);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+}
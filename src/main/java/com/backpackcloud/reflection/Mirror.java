@@ -24,15 +24,27 @@
 
 package com.backpackcloud.reflection;
 
+import com.backpackcloud.metrics.Metrics;
+import com.backpackcloud.reflection.predicates.ElementPredicate;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /// A class that acts as a helper for basic reflection operations.
 ///
@@ -42,11 +54,41 @@ import java.util.stream.Stream;
 /// @author Ataxexe
 public class Mirror {
 
+  /// The mirrors created by {@link #reflect(Object)}, one for each class
+  private static final ClassValue<Mirror> MIRRORS = new ClassValue<>() {
+    @Override
+    protected Mirror computeValue(Class<?> type) {
+      if (Metrics.enabled()) {
+        Metrics.counter("mirror.reflect").increment();
+      }
+      return new Mirror(type);
+    }
+  };
+
   /// The target of this mirror instance
   private final Class targetType;
   /// The computed class hierarchy of the target
   private final List<Class> targetHierarchy;
 
+  /// The fields of the target hierarchy, computed on first use
+  private volatile List<Field> fields;
+  /// The methods of the target hierarchy, computed on first use
+  private volatile List<Method> methods;
+  /// The public constructors of the target, computed on first use
+  private volatile List<Constructor> constructors;
+  /// The annotation index of the target, computed on first use
+  private volatile AnnotationIndex annotationIndex;
+  /// The classes and interfaces of the target, in resolution order, computed on first use
+  private volatile List<Class> types;
+  /// The methods of the target with overrides resolved, computed on first use
+  private volatile List<Method> resolvedMethods;
+  /// The methods of the target hierarchy mapped by their names, computed on first use
+  private volatile Map<String, List<Method>> overloads;
+  /// The field accessors already created, mapped by the field name
+  private final Map<String, FieldAccessor> accessors = new ConcurrentHashMap<>();
+  /// The method invokers already created, mapped by the method signature
+  private final Map<Signature, MethodInvoker> invokers = new ConcurrentHashMap<>();
+
   /// Creates a new mirror targeting the given class
   ///
   /// @param targetType the target class
@@ -60,16 +102,40 @@ public class Mirror {
 
   /// Reflects the fields of the target class and its superclasses.
   ///
-  /// @return a list of every field found in the target hierarchy.
+  /// @return a new list of every field found in the target hierarchy.
   /// @see Class#getDeclaredFields()
   public List<Field> fields() {
-    List<Field> result = new ArrayList<>();
-    for (Class type : targetHierarchy) {
-      result.addAll(List.of(type.getDeclaredFields()));
+    return new ArrayList<>(scannedFields());
+  }
+
+  private List<Field> scannedFields() {
+    List<Field> result = this.fields;
+    if (result == null) {
+      MirrorScanEvent event = new MirrorScanEvent();
+      event.begin();
+      List<Field> found = new ArrayList<>();
+      for (Class type : targetHierarchy) {
+        found.addAll(List.of(type.getDeclaredFields()));
+      }
+      result = List.copyOf(found);
+      this.fields = result;
+      scanned("fields", event);
     }
     return result;
   }
 
+  /// Reflects the fields of the target hierarchy that match the given predicate.
+  ///
+  /// The predicate is {@link ElementPredicate#compile() compiled} first and, if it
+  /// requires an annotation, only the fields in the {@link #annotationIndex() annotation index}
+  /// are tested.
+  ///
+  /// @param predicate the predicate to match
+  /// @return a list of every field that matches the given predicate.
+  public List<Field> fields(ElementPredicate<Field> predicate) {
+    return select(scannedFields(), predicate, annotation -> annotationIndex().fields(annotation));
+  }
+
   /// Reflects the field declared with the given name. If there are
   /// multiple fields with the same name down in the target hierarchy,
   /// returns the one found in the furthest class from Object.
@@ -91,22 +157,191 @@ public class Mirror {
       .findFirst();
   }
 
+  /// Creates an accessor for the field declared with the given name, following the
+  /// same rules as {@link #field(String)}.
+  ///
+  /// Accessors are cached, so the same accessor is returned for the same name.
+  ///
+  /// @param name the name of the field
+  /// @return the accessor for the field that is declared with the given name.
+  /// @see FieldAccessor
+  public Optional<FieldAccessor> accessor(String name) {
+    FieldAccessor accessor = accessors.get(name);
+    if (accessor == null) {
+      Optional<Field> field = field(name);
+      if (field.isEmpty()) {
+        return Optional.empty();
+      }
+      accessor = accessors.computeIfAbsent(name, n -> new FieldAccessor(field.get()));
+    }
+    return Optional.of(accessor);
+  }
+
   /// Reflects the methods of the target class and its superclasses.
   ///
-  /// @return a list of every method found in the target hierarchy.
+  /// @return a new list of every method found in the target hierarchy.
   /// @see Class#getDeclaredMethods()
   public List<Method> methods() {
-    List<Method> result = new ArrayList<>();
-    for (Class type : targetHierarchy) {
-      result.addAll(List.of(type.getDeclaredMethods()));
+    return new ArrayList<>(scannedMethods());
+  }
+
+  private List<Method> scannedMethods() {
+    List<Method> result = this.methods;
+    if (result == null) {
+      MirrorScanEvent event = new MirrorScanEvent();
+      event.begin();
+      List<Method> found = new ArrayList<>();
+      for (Class type : targetHierarchy) {
+        found.addAll(List.of(type.getDeclaredMethods()));
+      }
+      result = List.copyOf(found);
+      this.methods = result;
+      scanned("methods", event);
+    }
+    return result;
+  }
+
+  /// Computes every type the target inherits from, including the target itself.
+  ///
+  /// The classes come first, from the target up to Object, followed by the
+  /// interfaces, level by level, starting from the ones closer to the target.
+  /// Each type appears only once.
+  ///
+  /// @return an unmodifiable list of the classes and interfaces of the target, in resolution order.
+  public List<Class> types() {
+    List<Class> result = this.types;
+    if (result == null) {
+      MirrorScanEvent event = new MirrorScanEvent();
+      event.begin();
+      LinkedHashSet<Class> found = new LinkedHashSet<>(targetHierarchy);
+      Deque<Class> pending = new ArrayDeque<>(targetHierarchy);
+      while (!pending.isEmpty()) {
+        for (Class type : pending.poll().getInterfaces()) {
+          if (found.add(type)) {
+            pending.add(type);
+          }
+        }
+      }
+      result = List.copyOf(found);
+      this.types = result;
+      scanned("types", event);
+    }
+    return result;
+  }
+
+  /// Reflects the methods the target actually has, including the ones inherited
+  /// from interfaces, with overrides resolved so each signature appears only once.
+  ///
+  /// Methods declared in classes take precedence over the ones declared in interfaces,
+  /// the same way the JVM resolves them. Among interfaces, a method declared in a
+  /// sub-interface takes precedence over the one it overrides. Bridge methods and
+  /// static interface methods are not included.
+  ///
+  /// @return an unmodifiable list of the resolved methods of the target.
+  public List<Method> resolvedMethods() {
+    List<Method> result = this.resolvedMethods;
+    if (result == null) {
+      MirrorScanEvent event = new MirrorScanEvent();
+      event.begin();
+      Map<Signature, Method> found = new LinkedHashMap<>();
+      for (Method method : scannedMethods()) {
+        if (!method.isBridge()) {
+          found.putIfAbsent(Signature.of(method), method);
+        }
+      }
+
+      Map<Signature, List<Method>> candidates = new LinkedHashMap<>();
+      for (Class type : types()) {
+        if (!type.isInterface()) {
+          continue;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+          int modifiers = method.getModifiers();
+          Signature signature = Signature.of(method);
+          if (method.isBridge() || Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers)
+            || found.containsKey(signature)) {
+            continue;
+          }
+          candidates.computeIfAbsent(signature, k -> new ArrayList<>()).add(method);
+        }
+      }
+      candidates.forEach((signature, methods) -> found.put(signature, mostSpecific(methods)));
+
+      result = List.copyOf(found.values());
+      this.resolvedMethods = result;
+      scanned("resolvedMethods", event);
+    }
+    return result;
+  }
+
+  private static <E> List<E> select(List<E> elements,
+                                    ElementPredicate<E> predicate,
+                                    Function<Class<? extends Annotation>, List<E>> index) {
+    ElementPredicate<E> compiled = predicate.compile();
+    Class<? extends Annotation> annotation = requiredAnnotation(compiled);
+    List<E> candidates = annotation != null ? index.apply(annotation) : elements;
+    List<E> result = new ArrayList<>();
+    for (E candidate : candidates) {
+      if (compiled.test(candidate)) {
+        result.add(candidate);
+      }
+    }
+    return result;
+  }
+
+  private static Class<? extends Annotation> requiredAnnotation(ElementPredicate<?> predicate) {
+    if (predicate instanceof ElementPredicate.Annotated<?> annotated && annotated.types().size() == 1) {
+      return annotated.types().iterator().next();
+    }
+    if (predicate instanceof ElementPredicate.All<?> all) {
+      for (ElementPredicate<?> child : all.predicates()) {
+        Class<? extends Annotation> annotation = requiredAnnotation(child);
+        if (annotation != null) {
+          return annotation;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Method mostSpecific(List<Method> candidates) {
+    Method result = null;
+    for (Method candidate : candidates) {
+      boolean overridden = false;
+      for (Method other : candidates) {
+        Class<?> declaringClass = other.getDeclaringClass();
+        if (declaringClass != candidate.getDeclaringClass()
+          && candidate.getDeclaringClass().isAssignableFrom(declaringClass)) {
+          overridden = true;
+          break;
+        }
+      }
+      if (!overridden && (result == null || (!result.isDefault() && candidate.isDefault()))) {
+        result = candidate;
+      }
     }
     return result;
   }
 
+  /// Reflects the methods of the target hierarchy that match the given predicate.
+  ///
+  /// The predicate is {@link ElementPredicate#compile() compiled} first and, if it
+  /// requires an annotation, only the methods in the {@link #annotationIndex() annotation index}
+  /// are tested.
+  ///
+  /// @param predicate the predicate to match
+  /// @return a list of every method that matches the given predicate.
+  public List<Method> methods(ElementPredicate<Method> predicate) {
+    return select(scannedMethods(), predicate, annotation -> annotationIndex().methods(annotation));
+  }
+
   /// Reflects the method declared with the given name and parameter types.
   /// If there are multiple methods with the same signature in the target
   /// hierarchy, returns the one found in the furthest class from Object.
   ///
+  /// If no class in the hierarchy declares the method, the ones inherited from
+  /// interfaces are checked as well.
+  ///
   /// @param name           the name of the method
   /// @param parameterTypes the parameter types
   /// @return the field that is declared with the given name.
@@ -123,22 +358,81 @@ public class Mirror {
           }
         })
         .filter(Objects::nonNull)
+        .findFirst()
+        .or(() -> resolvedMethods().stream()
+          .filter(method -> method.getName().equals(name))
+          .filter(method -> Arrays.equals(method.getParameterTypes(), parameterTypes))
+          .findFirst());
+    }
+
+    List<Method> found = overloads(name);
+    if (found.isEmpty()) {
+      return resolvedMethods().stream()
+        .filter(method -> method.getName().equals(name))
         .findFirst();
     }
+    return Optional.of(found.getFirst());
+  }
 
-    return targetHierarchy
-      .stream()
-      .flatMap(type -> Stream.of(type.getDeclaredMethods()))
-      .filter(method -> method.getName().equals(name))
-      .findFirst();
+  /// Reflects all the methods declared with the given name in the target hierarchy,
+  /// in the same order as {@link #methods()}.
+  ///
+  /// @param name the name of the methods
+  /// @return the methods declared with the given name.
+  public List<Method> overloads(String name) {
+    Map<String, List<Method>> result = this.overloads;
+    if (result == null) {
+      Map<String, List<Method>> index = new HashMap<>();
+      for (Method method : scannedMethods()) {
+        index.computeIfAbsent(method.getName(), n -> new ArrayList<>()).add(method);
+      }
+      index.replaceAll((n, list) -> List.copyOf(list));
+      result = Map.copyOf(index);
+      this.overloads = result;
+    }
+    return result.getOrDefault(name, List.of());
+  }
+
+  /// Creates a fast invoker for the method found by {@link #method(String, Class[])}
+  /// with the same arguments.
+  ///
+  /// Invokers are cached, so the same invoker is returned for the same signature.
+  ///
+  /// @param name           the name of the method
+  /// @param parameterTypes the parameter types
+  /// @return the invoker for the method.
+  /// @see MethodInvoker
+  public Optional<MethodInvoker> invoker(String name, Class<?>... parameterTypes) {
+    Signature signature = new Signature(name, List.of(parameterTypes));
+    MethodInvoker invoker = invokers.get(signature);
+    if (invoker == null) {
+      Optional<Method> method = method(name, parameterTypes);
+      if (method.isEmpty()) {
+        return Optional.empty();
+      }
+      invoker = invokers.computeIfAbsent(signature, s -> new MethodInvoker(method.get()));
+    }
+    return Optional.of(invoker);
   }
 
   /// Reflects the public constructors of the target.
   ///
-  /// @return the constructors found in the target class.
+  /// @return a new list of the constructors found in the target class.
   /// @see Class#getConstructors()
   public List<Constructor> constructors() {
-    return List.of(targetType.getConstructors());
+    return new ArrayList<>(scannedConstructors());
+  }
+
+  private List<Constructor> scannedConstructors() {
+    List<Constructor> result = this.constructors;
+    if (result == null) {
+      MirrorScanEvent event = new MirrorScanEvent();
+      event.begin();
+      result = List.of(targetType.getConstructors());
+      this.constructors = result;
+      scanned("constructors", event);
+    }
+    return result;
   }
 
   /// Reflects the public constructor that matches the given signature.
@@ -154,7 +448,26 @@ public class Mirror {
     }
   }
 
-  /// Creates a new Mirror targeting the type of the given object.
+  /// Indexes the annotated members of the target by their annotation types, so finding
+  /// all the members annotated with a given annotation is a single map lookup.
+  ///
+  /// The index covers the {@link #fields() fields}, {@link #methods() methods} and
+  /// {@link #constructors() constructors} reflected by this mirror, as well as their parameters.
+  ///
+  /// @return the annotation index of the target.
+  public AnnotationIndex annotationIndex() {
+    AnnotationIndex result = this.annotationIndex;
+    if (result == null) {
+      result = new AnnotationIndex(scannedFields(), scannedMethods(), scannedConstructors());
+      this.annotationIndex = result;
+    }
+    return result;
+  }
+
+  /// Returns the Mirror targeting the type of the given object.
+  ///
+  /// Mirrors are cached per type, so everything a mirror computes is computed only once
+  /// for each type.
   ///
   /// @return a Mirror instance targeting the object's type.
   /// @see Mirror#Mirror(Class)
@@ -165,7 +478,26 @@ public class Mirror {
     } else {
       type = target instanceof Class ? ((Class<?>) target) : target.getClass();
     }
-    return new Mirror(type);
+    return MIRRORS.get(type);
+  }
+
+  private void scanned(String kind, MirrorScanEvent event) {
+    if (Metrics.enabled()) {
+      Metrics.counter("mirror.scan", "kind", kind).increment();
+    }
+    if (event.shouldCommit()) {
+      event.type = targetType;
+      event.kind = kind;
+      event.commit();
+    }
+  }
+
+  private record Signature(String name, List<Class<?>> parameterTypes) {
+
+    static Signature of(Method method) {
+      return new Signature(method.getName(), List.of(method.getParameterTypes()));
+    }
+
   }
 
 }
@@ -26,7 +26,6 @@ package com.backpackcloud.reflection.predicates;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.util.function.Predicate;
 
 /// A class that holds a set of predicates for using with Constructor objects.
 ///
@@ -41,8 +40,8 @@ public final class ConstructorPredicates {
   ///
   /// @param type the annotation to check
   /// @return a new predicate
-  public static Predicate<Constructor> annotatedWith(Class<? extends Annotation> type) {
-    return constructor -> constructor.isAnnotationPresent(type);
+  public static ElementPredicate<Constructor> annotatedWith(Class<? extends Annotation> type) {
+    return ElementPredicate.annotatedWith(type);
   }
 
 }
@@ -0,0 +1,463 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.predicates;
+
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.reflection.ConstructorFactory.ParameterMetadata;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/// A predicate for reflected elements (fields, methods, constructors, parameters and classes)
+/// that can be inspected and combined into a tree.
+///
+/// Name, type and annotation checks also accept the {@link ParameterMetadata} generated at
+/// compile time, so a parameter can be matched without being reflected.
+///
+/// Combining element predicates with {@link #and(ElementPredicate)}, {@link #or(ElementPredicate)}
+/// and {@link #negate()} keeps the tree structure, which can then be {@link #compile() compiled}
+/// into an equivalent tree that is cheaper to evaluate: name checks are merged into a single
+/// set lookup, modifier checks into a single mask, annotation checks into a single pass over
+/// the element annotations, and the cheaper checks are evaluated first.
+///
+/// The meaning of "type" depends on the element: the type of a field or parameter, the return
+/// type of a method, the declaring class of a constructor or the class itself.
+///
+/// The factories in {@link FieldPredicates}, {@link MethodPredicates}, {@link ConstructorPredicates}
+/// and {@link ParameterPredicates} return element predicates. Source code using them as plain
+/// {@link Predicate predicates} still compiles, but code compiled against the versions that
+/// returned {@link Predicate} must be recompiled.
+///
+/// @param <E> the type of the element
+/// @author Ataxexe
+public sealed interface ElementPredicate<E> extends Predicate<E> {
+
+  /// Combines this predicate with the given one, keeping the tree structure.
+  ///
+  /// @param other the other predicate
+  /// @return a predicate that matches if both predicates match
+  default ElementPredicate<E> and(ElementPredicate<E> other) {
+    return new All<>(List.of(this, other));
+  }
+
+  /// Combines this predicate with the given one, keeping the tree structure.
+  ///
+  /// @param other the other predicate
+  /// @return a predicate that matches if any of the predicates match
+  default ElementPredicate<E> or(ElementPredicate<E> other) {
+    return new Any<>(List.of(this, other));
+  }
+
+  @Override
+  default ElementPredicate<E> negate() {
+    return new Not<>(this);
+  }
+
+  /// Rewrites this predicate into an equivalent one that is cheaper to evaluate.
+  ///
+  /// @return the compiled predicate
+  default ElementPredicate<E> compile() {
+    return this;
+  }
+
+  /// The relative cost of evaluating this predicate, used for ordering checks.
+  ///
+  /// @return the cost, the lower the cheaper
+  default int cost() {
+    return 5;
+  }
+
+  /// Creates a predicate that tests if an element has any of the given names.
+  ///
+  /// @param names the names to check
+  /// @return a new predicate
+  static <E> ElementPredicate<E> named(String... names) {
+    return new Named<>(setOf(Arrays.asList(names)));
+  }
+
+  /// Creates a predicate that tests if an element has a type compatible with the given type.
+  ///
+  /// @param type the type to check
+  /// @return a new predicate
+  static <E> ElementPredicate<E> ofType(Class<?> type) {
+    return new Typed<>(type);
+  }
+
+  /// Creates a predicate that tests if an element has exactly the given generic type,
+  /// like `List<String>`.
+  ///
+  /// @param type the generic type to check
+  /// @return a new predicate
+  static <E> ElementPredicate<E> ofGenericType(Type type) {
+    return new GenericTyped<>(type);
+  }
+
+  /// Creates a predicate that tests if an element is annotated with any of the given annotations.
+  ///
+  /// @param types the annotations to check
+  /// @return a new predicate
+  @SafeVarargs
+  static <E> ElementPredicate<E> annotatedWith(Class<? extends Annotation>... types) {
+    // copied one by one, since passing a generic varargs array along is a lint warning
+    List<Class<? extends Annotation>> annotations = new ArrayList<>(types.length);
+    for (Class<? extends Annotation> type : types) {
+      annotations.add(type);
+    }
+    return new Annotated<>(setOf(annotations));
+  }
+
+  // duplicates are fine, since the values are matched by any of them
+  private static <T> Set<T> setOf(List<T> values) {
+    Set<T> result = new HashSet<>();
+    for (T value : values) {
+      if (value == null) {
+        throw new UnbelievableException("Null values are not allowed in element predicates");
+      }
+      result.add(value);
+    }
+    return Set.copyOf(result);
+  }
+
+  /// Creates a predicate that tests if an element has all the given modifiers.
+  ///
+  /// @param modifiers the modifiers to check, as in {@link java.lang.reflect.Modifier}
+  /// @return a new predicate
+  static <E> ElementPredicate<E> withModifiers(int modifiers) {
+    return new Modified<>(modifiers);
+  }
+
+  /// Tests if the element name is one of the given names.
+  ///
+  /// @param names the accepted names
+  record Named<E>(Set<String> names) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      return names.contains(nameOf(element));
+    }
+
+    @Override
+    public int cost() {
+      return 1;
+    }
+
+  }
+
+  /// Tests if the element type is compatible with the given type.
+  ///
+  /// @param type the type to check
+  record Typed<E>(Class<?> type) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      return type.isAssignableFrom(typeOf(element));
+    }
+
+    @Override
+    public int cost() {
+      return 2;
+    }
+
+  }
+
+  /// Tests if the element generic type is equal to the given type.
+  ///
+  /// @param type the generic type to check
+  record GenericTyped<E>(Type type) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      return type.equals(genericTypeOf(element));
+    }
+
+    @Override
+    public int cost() {
+      return 3;
+    }
+
+  }
+
+  /// Tests if the element is annotated with any of the given annotations.
+  ///
+  /// @param types the annotations to check
+  record Annotated<E>(Set<Class<? extends Annotation>> types) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      if (element instanceof ParameterMetadata metadata) {
+        for (Class<? extends Annotation> annotation : metadata.annotations()) {
+          if (types.contains(annotation)) {
+            return true;
+          }
+        }
+        return false;
+      }
+      AnnotatedElement annotatedElement = (AnnotatedElement) element;
+      if (types.size() == 1) {
+        return annotatedElement.isAnnotationPresent(types.iterator().next());
+      }
+      for (Annotation annotation : annotatedElement.getAnnotations()) {
+        if (types.contains(annotation.annotationType())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int cost() {
+      return 4;
+    }
+
+  }
+
+  /// Tests if the element has all the given modifiers.
+  ///
+  /// @param modifiers the modifiers mask
+  record Modified<E>(int modifiers) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      return (modifiersOf(element) & modifiers) == modifiers;
+    }
+
+    @Override
+    public int cost() {
+      return 0;
+    }
+
+  }
+
+  /// Tests if all the given predicates match.
+  ///
+  /// @param predicates the predicates to check, in order
+  record All<E>(List<ElementPredicate<E>> predicates) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      for (ElementPredicate<E> predicate : predicates) {
+        if (!predicate.test(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public ElementPredicate<E> and(ElementPredicate<E> other) {
+      List<ElementPredicate<E>> result = new ArrayList<>(predicates);
+      result.add(other);
+      return new All<>(List.copyOf(result));
+    }
+
+    @Override
+    public ElementPredicate<E> compile() {
+      List<ElementPredicate<E>> result = new ArrayList<>();
+      int modifiers = 0;
+      Set<String> names = null;
+      for (ElementPredicate<E> predicate : flatten(predicates, All.class)) {
+        switch (predicate) {
+          case Modified<E> modified -> modifiers |= modified.modifiers();
+          case Named<E> named -> {
+            if (names == null) {
+              names = new HashSet<>(named.names());
+            } else {
+              names.retainAll(named.names());
+            }
+          }
+          default -> result.add(predicate);
+        }
+      }
+      if (modifiers != 0) {
+        result.add(new Modified<>(modifiers));
+      }
+      if (names != null) {
+        result.add(new Named<>(Set.copyOf(names)));
+      }
+      return combine(result, All::new);
+    }
+
+    @Override
+    public int cost() {
+      return predicates.stream().mapToInt(ElementPredicate::cost).max().orElse(0);
+    }
+
+  }
+
+  /// Tests if any of the given predicates match.
+  ///
+  /// @param predicates the predicates to check, in order
+  record Any<E>(List<ElementPredicate<E>> predicates) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      for (ElementPredicate<E> predicate : predicates) {
+        if (predicate.test(element)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public ElementPredicate<E> or(ElementPredicate<E> other) {
+      List<ElementPredicate<E>> result = new ArrayList<>(predicates);
+      result.add(other);
+      return new Any<>(List.copyOf(result));
+    }
+
+    @Override
+    public ElementPredicate<E> compile() {
+      List<ElementPredicate<E>> result = new ArrayList<>();
+      Set<String> names = new HashSet<>();
+      Set<Class<? extends Annotation>> annotations = new HashSet<>();
+      for (ElementPredicate<E> predicate : flatten(predicates, Any.class)) {
+        switch (predicate) {
+          case Named<E> named -> names.addAll(named.names());
+          case Annotated<E> annotated -> annotations.addAll(annotated.types());
+          default -> result.add(predicate);
+        }
+      }
+      if (!names.isEmpty()) {
+        result.add(new Named<>(Set.copyOf(names)));
+      }
+      if (!annotations.isEmpty()) {
+        result.add(new Annotated<>(Set.copyOf(annotations)));
+      }
+      return combine(result, Any::new);
+    }
+
+    @Override
+    public int cost() {
+      return predicates.stream().mapToInt(ElementPredicate::cost).max().orElse(0);
+    }
+
+  }
+
+  /// Tests if the given predicate doesn't match.
+  ///
+  /// @param predicate the predicate to negate
+  record Not<E>(ElementPredicate<E> predicate) implements ElementPredicate<E> {
+
+    @Override
+    public boolean test(E element) {
+      return !predicate.test(element);
+    }
+
+    @Override
+    public ElementPredicate<E> negate() {
+      return predicate;
+    }
+
+    @Override
+    public ElementPredicate<E> compile() {
+      ElementPredicate<E> compiled = predicate.compile();
+      return compiled instanceof Not<E> not ? not.predicate() : new Not<>(compiled);
+    }
+
+    @Override
+    public int cost() {
+      return predicate.cost();
+    }
+
+  }
+
+  private static <E> List<ElementPredicate<E>> flatten(List<ElementPredicate<E>> predicates, Class<?> type) {
+    List<ElementPredicate<E>> result = new ArrayList<>();
+    for (ElementPredicate<E> predicate : predicates) {
+      ElementPredicate<E> compiled = predicate.compile();
+      if (type.isInstance(compiled)) {
+        result.addAll(compiled instanceof All<E> all ? all.predicates() : ((Any<E>) compiled).predicates());
+      } else {
+        result.add(compiled);
+      }
+    }
+    return result;
+  }
+
+  private static <E> ElementPredicate<E> combine(List<ElementPredicate<E>> predicates,
+                                                 Function<List<ElementPredicate<E>>, ElementPredicate<E>> constructor) {
+    if (predicates.size() == 1) {
+      return predicates.getFirst();
+    }
+    predicates.sort(Comparator.comparingInt(ElementPredicate::cost));
+    return constructor.apply(List.copyOf(predicates));
+  }
+
+  private static String nameOf(Object element) {
+    return switch (element) {
+      case Member member -> member.getName();
+      case Parameter parameter -> parameter.getName();
+      case ParameterMetadata metadata -> metadata.name();
+      case Class<?> type -> type.getName();
+      default -> throw new UnbelievableException("Unsupported element: " + element);
+    };
+  }
+
+  private static Class<?> typeOf(Object element) {
+    return switch (element) {
+      case Field field -> field.getType();
+      case Method method -> method.getReturnType();
+      case Constructor<?> constructor -> constructor.getDeclaringClass();
+      case Parameter parameter -> parameter.getType();
+      case ParameterMetadata metadata -> metadata.type();
+      case Class<?> type -> type;
+      default -> throw new UnbelievableException("Unsupported element: " + element);
+    };
+  }
+
+  private static Type genericTypeOf(Object element) {
+    return switch (element) {
+      case Field field -> field.getGenericType();
+      case Method method -> method.getGenericReturnType();
+      case Parameter parameter -> parameter.getParameterizedType();
+      default -> typeOf(element);
+    };
+  }
+
+  private static int modifiersOf(Object element) {
+    return switch (element) {
+      case Member member -> member.getModifiers();
+      case Parameter parameter -> parameter.getModifiers();
+      case Class<?> type -> type.getModifiers();
+      default -> throw new UnbelievableException("Unsupported element: " + element);
+    };
+  }
+
+}
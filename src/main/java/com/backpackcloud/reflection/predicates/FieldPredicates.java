@@ -26,7 +26,6 @@ package com.backpackcloud.reflection.predicates;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.function.Predicate;
 
 /// A class that holds a set of predicates for using with Field objects.
 ///
@@ -41,24 +40,24 @@ public final class FieldPredicates {
   ///
   /// @param name the name to check
   /// @return a new predicate
-  public static Predicate<Field> ofName(String name) {
-    return field -> field.getName().equals(name);
+  public static ElementPredicate<Field> ofName(String name) {
+    return ElementPredicate.named(name);
   }
 
   /// Creates a predicate that tests if a field has a type compatible with the given type.
   ///
   /// @param type the type to check
   /// @return a new predicate
-  public static Predicate<Field> ofType(Class<?> type) {
-    return field -> type.isAssignableFrom(field.getType());
+  public static ElementPredicate<Field> ofType(Class<?> type) {
+    return ElementPredicate.ofType(type);
   }
 
   /// Creates a predicate that tests if a field is annotated with the given annotation.
   ///
   /// @param type the annotation to check
   /// @return a new predicate
-  public static Predicate<Field> annotatedWith(Class<? extends Annotation> type) {
-    return field -> field.isAnnotationPresent(type);
+  public static ElementPredicate<Field> annotatedWith(Class<? extends Annotation> type) {
+    return ElementPredicate.annotatedWith(type);
   }
 
 }
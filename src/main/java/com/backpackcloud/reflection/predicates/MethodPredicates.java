@@ -26,7 +26,6 @@ package com.backpackcloud.reflection.predicates;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.function.Predicate;
 
 /// A class that holds a set of predicates for using with Method objects.
 ///
@@ -41,16 +40,16 @@ public final class MethodPredicates {
   ///
   /// @param name the name to check
   /// @return a new predicate
-  public static Predicate<Method> ofName(String name) {
-    return method -> method.getName().equals(name);
+  public static ElementPredicate<Method> ofName(String name) {
+    return ElementPredicate.named(name);
   }
 
   /// Creates a predicate that tests if a method is annotated with the given annotation.
   ///
   /// @param type the annotation to check
   /// @return a new predicate
-  public static Predicate<Method> annotatedWith(Class<? extends Annotation> type) {
-    return method -> method.isAnnotationPresent(type);
+  public static ElementPredicate<Method> annotatedWith(Class<? extends Annotation> type) {
+    return ElementPredicate.annotatedWith(type);
   }
 
 }
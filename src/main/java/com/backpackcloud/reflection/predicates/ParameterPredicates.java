@@ -26,7 +26,6 @@ package com.backpackcloud.reflection.predicates;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
-import java.util.function.Predicate;
 
 /// A class that holds a set of predicates for using with Parameter objects.
 ///
@@ -41,24 +40,24 @@ public final class ParameterPredicates {
   ///
   /// @param name the name to check
   /// @return a new predicate
-  public static Predicate<Parameter> ofName(String name) {
-    return parameter -> parameter.getName().equals(name);
+  public static ElementPredicate<Parameter> ofName(String name) {
+    return ElementPredicate.named(name);
   }
 
   /// Creates a predicate that tests if a parameter has a type compatible with the given type.
   ///
   /// @param type the type to check
   /// @return a new predicate
-  public static Predicate<Parameter> ofType(Class<?> type) {
-    return parameter -> type.isAssignableFrom(parameter.getType());
+  public static ElementPredicate<Parameter> ofType(Class<?> type) {
+    return ElementPredicate.ofType(type);
   }
 
   /// Creates a predicate that tests if a parameter is annotated with the given annotation.
   ///
   /// @param type the annotation to check
   /// @return a new predicate
-  public static Predicate<Parameter> annotatedWith(Class<? extends Annotation> type) {
-    return parameter -> parameter.isAnnotationPresent(type);
+  public static ElementPredicate<Parameter> annotatedWith(Class<? extends Annotation> type) {
+    return ElementPredicate.annotatedWith(type);
   }
 
 }
@@ -0,0 +1,357 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.processing;
+
+import com.backpackcloud.preferences.PreferenceRegistry;
+import com.backpackcloud.reflection.ConstructorFactory;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/// Generates, at compile time, the metadata of classes annotated with
+/// {@link com.backpackcloud.reflection.GenerateMetadata GenerateMetadata}.
+///
+/// This processor is not registered as a service, to avoid being picked up by every
+/// compilation that has this library in the class path. Enable it explicitly, like:
+///
+/// ```xml
+/// <annotationProcessors>
+///   <annotationProcessor>com.backpackcloud.reflection.processing.MetadataProcessor</annotationProcessor>
+/// </annotationProcessors>
+/// ```
+///
+/// The generated classes are listed in `META-INF/services`, under the interface they implement,
+/// so they are found through a {@link java.util.ServiceLoader ServiceLoader}.
+///
+/// @author Ataxexe
+/// @see ConstructorFactory
+/// @see PreferenceRegistry
+@SupportedAnnotationTypes("com.backpackcloud.reflection.GenerateMetadata")
+public class MetadataProcessor extends AbstractProcessor {
+
+  private static final String PREFERENCE_SPEC = "com.backpackcloud.preferences.PreferenceSpec";
+
+  /// The wrappers that can be unboxed and widened to each primitive, as in JLS 5.1.2
+  private static final Map<TypeKind, List<String>> WIDENED_FROM = Map.of(
+    TypeKind.BOOLEAN, List.of("Boolean"),
+    TypeKind.CHAR, List.of("Character"),
+    TypeKind.BYTE, List.of("Byte"),
+    TypeKind.SHORT, List.of("Short", "Byte"),
+    TypeKind.INT, List.of("Integer", "Character", "Short", "Byte"),
+    TypeKind.LONG, List.of("Long", "Integer", "Character", "Short", "Byte"),
+    TypeKind.FLOAT, List.of("Float", "Long", "Integer", "Character", "Short", "Byte"),
+    TypeKind.DOUBLE, List.of("Double", "Float", "Long", "Integer", "Character", "Short", "Byte")
+  );
+
+  private final Map<String, Set<String>> services = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServices();
+      return true;
+    }
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Only classes and records are supported", element);
+          continue;
+        }
+        TypeElement type = (TypeElement) element;
+        try {
+          generateFactory(type);
+          generateRegistry(type);
+        } catch (IOException e) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+        }
+      }
+    }
+    return true;
+  }
+
+  private void generateFactory(TypeElement type) throws IOException {
+    Set<Modifier> modifiers = type.getModifiers();
+    if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)
+      || (type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC))) {
+      return;
+    }
+    // same rule as Context#create: a single public constructor is used directly,
+    // while records are always created through their canonical constructor
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+      .filter(constructor -> type.getKind() == ElementKind.RECORD
+        ? processingEnv.getElementUtils().isCanonicalConstructor(constructor)
+        : constructor.getModifiers().contains(Modifier.PUBLIC))
+      .toList();
+    if (constructors.size() != 1 || !constructors.getFirst().getModifiers().contains(Modifier.PUBLIC)) {
+      return;
+    }
+    List<? extends VariableElement> parameters = constructors.getFirst().getParameters();
+
+    String typeName = erasure(type.asType());
+    StringBuilder metadata = new StringBuilder();
+    StringBuilder args = new StringBuilder();
+    Set<TypeKind> primitives = new TreeSet<>();
+    for (int i = 0; i < parameters.size(); i++) {
+      VariableElement parameter = parameters.get(i);
+      TypeMirror parameterType = parameter.asType();
+      if (i > 0) {
+        metadata.append(",\n    ");
+        args.append(",\n      ");
+      }
+      metadata.append("new com.backpackcloud.reflection.ConstructorFactory.ParameterMetadata(\"")
+        .append(parameter.getSimpleName()).append("\", ")
+        .append(erasure(parameterType)).append(".class, java.util.List.of(")
+        .append(annotations(parameter)).append("))");
+      if (parameterType.getKind().isPrimitive()) {
+        primitives.add(parameterType.getKind());
+        args.append(parameterType).append("Value(args, ").append(i).append(")");
+      } else {
+        args.append("(").append(erasure(parameterType)).append(") args[").append(i).append("]");
+      }
+    }
+    StringBuilder conversions = new StringBuilder();
+    for (TypeKind primitive : primitives) {
+      conversions.append(conversion(primitive));
+    }
+
+    String body = """
+        private static final java.util.List<com.backpackcloud.reflection.ConstructorFactory.ParameterMetadata> PARAMETERS = java.util.List.of(
+          %2$s
+        );
+
+        @Override
+        public java.util.List<com.backpackcloud.reflection.ConstructorFactory.ParameterMetadata> parameters() {
+          return PARAMETERS;
+        }
+
+        @Override
+        public %1$s create(Object[] args) {
+          return new %1$s(
+            %3$s
+          );
+        }
+
+        // unboxing a null argument would fail with a NullPointerException
+        private static Object primitive(Object[] args, int index) {
+          Object value = args[index];
+          if (value == null) {
+            throw new com.backpackcloud.UnbelievableException("No value for the primitive parameter "
+              + PARAMETERS.get(index).name() + " of %1$s");
+          }
+          return value;
+        }
+      %4$s""".formatted(typeName, metadata, args, conversions);
+
+    write(type, ConstructorFactory.SUFFIX, ConstructorFactory.class, "<" + typeName + ">", body);
+  }
+
+  // accepts the same wrappers a reflective call would unbox and widen to the given primitive
+  private String conversion(TypeKind primitive) {
+    StringBuilder cases = new StringBuilder();
+    for (String wrapper : WIDENED_FROM.get(primitive)) {
+      cases.append("\n      case ").append(wrapper).append(" value -> value;");
+    }
+    return """
+
+        private static %1$s %1$sValue(Object[] args, int index) {
+          return switch (primitive(args, index)) {%2$s
+            default -> throw new IllegalArgumentException("argument type mismatch");
+          };
+        }
+      """.formatted(primitive.name().toLowerCase(), cases);
+  }
+
+  // only the annotations a reflected parameter would have
+  private String annotations(VariableElement parameter) {
+    StringBuilder result = new StringBuilder();
+    for (AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+      Element annotationType = annotation.getAnnotationType().asElement();
+      Retention retention = annotationType.getAnnotation(Retention.class);
+      if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+        if (!result.isEmpty()) {
+          result.append(", ");
+        }
+        result.append(erasure(annotation.getAnnotationType())).append(".class");
+      }
+    }
+    return result.toString();
+  }
+
+  private void generateRegistry(TypeElement type) throws IOException {
+    TypeElement specType = processingEnv.getElementUtils().getTypeElement(PREFERENCE_SPEC);
+    if (specType == null) {
+      return;
+    }
+    TypeMirror spec = processingEnv.getTypeUtils().erasure(specType.asType());
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+
+    // the same fields UserPreferences#register(Class) reflects: the static ones of the class and its superclasses
+    StringBuilder specs = new StringBuilder();
+    for (TypeElement current = type; current != null; current = superclassOf(current)) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (!field.getModifiers().contains(Modifier.STATIC)
+          || !processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(field.asType()), spec)) {
+          continue;
+        }
+        if (!isAccessible(field, packageElement)) {
+          // the generated registry would miss it, so reflection is kept for this class
+          return;
+        }
+        if (!specs.isEmpty()) {
+          specs.append(",\n    ");
+        }
+        specs.append(erasure(current.asType())).append(".").append(field.getSimpleName());
+      }
+    }
+    if (specs.isEmpty()) {
+      return;
+    }
+
+    String body = """
+        private static final java.util.List<com.backpackcloud.preferences.PreferenceSpec<?>> SPECS = java.util.List.of(
+          %s
+        );
+
+        @Override
+        public java.util.List<com.backpackcloud.preferences.PreferenceSpec<?>> specs() {
+          return SPECS;
+        }
+      """.formatted(specs);
+
+    write(type, PreferenceRegistry.SUFFIX, PreferenceRegistry.class, "", body);
+  }
+
+  private TypeElement superclassOf(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  // whether the generated class, in the given package, can read the field
+  private boolean isAccessible(VariableElement field, PackageElement packageElement) {
+    boolean samePackage = processingEnv.getElementUtils().getPackageOf(field).equals(packageElement);
+    for (Element element = field; element instanceof VariableElement || element instanceof TypeElement;
+         element = element.getEnclosingElement()) {
+      if (!isAccessible(element.getModifiers(), samePackage)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isAccessible(Set<Modifier> modifiers, boolean samePackage) {
+    return modifiers.contains(Modifier.PUBLIC) || (samePackage && !modifiers.contains(Modifier.PRIVATE));
+  }
+
+  private void write(TypeElement type, String suffix, Class<?> implemented, String typeArguments, String body)
+    throws IOException {
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + "_" + suffix;
+
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+      .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+      .append("public final class ").append(simpleName).append(" implements ").append(implemented.getName()).append(typeArguments).append(" {\n\n")
+      .append(body)
+      .append("\n}\n");
+
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+    }
+    services.computeIfAbsent(implemented.getName(), name -> new TreeSet<>()).add(qualifiedName);
+  }
+
+  // the services files can only be created once, so they are written after the last round
+  private void writeServices() {
+    services.forEach((service, providers) -> {
+      String path = "META-INF/services/" + service;
+      Filer filer = processingEnv.getFiler();
+      try {
+        // keeps the providers of a previous compilation of other classes
+        FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", path);
+        try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+          reader.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(providers::add);
+        }
+      } catch (IOException e) {
+        // nothing generated before
+      }
+      try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path).openWriter()) {
+        for (String provider : providers) {
+          writer.write(provider + "\n");
+        }
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+      }
+    });
+  }
+
+  private String erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.scan;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/// Reads the parts of a class file that matter for indexing, skipping everything else.
+///
+/// @author Ataxexe
+final class ClassFileReader {
+
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final String ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+  private final DataInputStream input;
+  private String[] utf8;
+  private int[] classes;
+
+  private ClassFileReader(InputStream input) {
+    this.input = new DataInputStream(input);
+  }
+
+  /// Reads the class file in the given stream.
+  ///
+  /// @param input the stream with the class file contents, not closed by this method
+  /// @return the information read
+  /// @throws IOException if the contents are not a valid class file
+  static ClassInfo read(InputStream input) throws IOException {
+    return new ClassFileReader(input).read();
+  }
+
+  private ClassInfo read() throws IOException {
+    if (input.readInt() != MAGIC) {
+      throw new IOException("Not a class file");
+    }
+    input.readUnsignedShort();
+    input.readUnsignedShort();
+    readConstantPool();
+
+    int access = input.readUnsignedShort();
+    String name = className(input.readUnsignedShort());
+    int superIndex = input.readUnsignedShort();
+    String superName = superIndex == 0 ? null : className(superIndex);
+
+    int interfaceCount = input.readUnsignedShort();
+    List<String> interfaces = new ArrayList<>(interfaceCount);
+    for (int i = 0; i < interfaceCount; i++) {
+      interfaces.add(className(input.readUnsignedShort()));
+    }
+
+    List<ClassInfo.MemberInfo> fields = readMembers();
+    List<ClassInfo.MemberInfo> methods = readMembers();
+    Set<String> annotations = readAttributes();
+
+    return new ClassInfo(name, superName, List.copyOf(interfaces), access, annotations, fields, methods);
+  }
+
+  private void readConstantPool() throws IOException {
+    int count = input.readUnsignedShort();
+    utf8 = new String[count];
+    classes = new int[count];
+    for (int i = 1; i < count; i++) {
+      int tag = input.readUnsignedByte();
+      switch (tag) {
+        case 1 -> utf8[i] = input.readUTF();
+        case 7 -> classes[i] = input.readUnsignedShort();
+        case 8, 16, 19, 20 -> input.skipNBytes(2);
+        case 15 -> input.skipNBytes(3);
+        case 3, 4, 9, 10, 11, 12, 17, 18 -> input.skipNBytes(4);
+        case 5, 6 -> {
+          input.skipNBytes(8);
+          i++;
+        }
+        default -> throw new IOException("Unknown constant pool tag " + tag);
+      }
+    }
+  }
+
+  private List<ClassInfo.MemberInfo> readMembers() throws IOException {
+    int count = input.readUnsignedShort();
+    List<ClassInfo.MemberInfo> members = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int access = input.readUnsignedShort();
+      String name = utf8[input.readUnsignedShort()];
+      String descriptor = utf8[input.readUnsignedShort()];
+      members.add(new ClassInfo.MemberInfo(name, descriptor, access, readAttributes()));
+    }
+    return List.copyOf(members);
+  }
+
+  /// Reads a list of attributes, returning the annotations found in it.
+  private Set<String> readAttributes() throws IOException {
+    Set<String> annotations = Set.of();
+    int count = input.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      String name = utf8[input.readUnsignedShort()];
+      int length = input.readInt();
+      if (ANNOTATIONS.equals(name)) {
+        annotations = readAnnotations();
+      } else {
+        input.skipNBytes(length);
+      }
+    }
+    return annotations;
+  }
+
+  private Set<String> readAnnotations() throws IOException {
+    int count = input.readUnsignedShort();
+    String[] result = new String[count];
+    for (int i = 0; i < count; i++) {
+      result[i] = readAnnotation();
+    }
+    return Set.copyOf(List.of(result));
+  }
+
+  private String readAnnotation() throws IOException {
+    String type = typeName(utf8[input.readUnsignedShort()]);
+    int pairs = input.readUnsignedShort();
+    for (int i = 0; i < pairs; i++) {
+      input.skipNBytes(2);
+      skipElementValue();
+    }
+    return type;
+  }
+
+  private void skipElementValue() throws IOException {
+    int tag = input.readUnsignedByte();
+    switch (tag) {
+      case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> input.skipNBytes(2);
+      case 'e' -> input.skipNBytes(4);
+      case '@' -> readAnnotation();
+      case '[' -> {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+          skipElementValue();
+        }
+      }
+      default -> throw new IOException("Unknown element value tag " + (char) tag);
+    }
+  }
+
+  private String className(int classIndex) {
+    return utf8[classes[classIndex]].replace('/', '.');
+  }
+
+  private static String typeName(String descriptor) {
+    return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+  }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.scan;
+
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.io.SerialBitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/// An index of classes read by a {@link ClassScanner}, queryable by annotation and supertype.
+///
+/// An index can be persisted at build time in {@link #LOCATION} and {@link #load(ClassLoader) loaded}
+/// at startup, so the class path doesn't need to be scanned again.
+///
+/// @author Ataxexe
+public final class ClassIndex {
+
+  /// The location of persisted indexes in the class path.
+  public static final String LOCATION = "META-INF/fabric/class-index.json";
+
+  private final Map<String, ClassInfo> classes;
+  private final Map<String, List<ClassInfo>> annotated;
+  private final Map<String, List<ClassInfo>> subtypes;
+
+  /// Creates a new index with the given classes.
+  ///
+  /// @param classes the classes to index
+  public ClassIndex(Collection<ClassInfo> classes) {
+    Map<String, ClassInfo> byName = new HashMap<>();
+    Map<String, List<ClassInfo>> byAnnotation = new HashMap<>();
+    Map<String, List<ClassInfo>> bySupertype = new HashMap<>();
+    for (ClassInfo info : classes) {
+      byName.putIfAbsent(info.name(), info);
+    }
+    for (ClassInfo info : byName.values()) {
+      for (String annotation : info.annotations()) {
+        byAnnotation.computeIfAbsent(annotation, k -> new ArrayList<>()).add(info);
+      }
+      if (info.superName() != null) {
+        bySupertype.computeIfAbsent(info.superName(), k -> new ArrayList<>()).add(info);
+      }
+      for (String type : info.interfaces()) {
+        bySupertype.computeIfAbsent(type, k -> new ArrayList<>()).add(info);
+      }
+    }
+    this.classes = Map.copyOf(byName);
+    this.annotated = byAnnotation;
+    this.subtypes = bySupertype;
+  }
+
+  /// @return all the indexed classes
+  public Collection<ClassInfo> classes() {
+    return classes.values();
+  }
+
+  /// @param name the name of the class
+  /// @return the indexed class with the given name
+  public Optional<ClassInfo> find(String name) {
+    return Optional.ofNullable(classes.get(name));
+  }
+
+  /// @param annotation the annotation type
+  /// @return the indexed classes annotated with the given annotation
+  public List<ClassInfo> annotatedWith(Class<? extends Annotation> annotation) {
+    return annotatedWith(annotation.getName());
+  }
+
+  /// @param annotation the name of the annotation type
+  /// @return the indexed classes annotated with the given annotation
+  public List<ClassInfo> annotatedWith(String annotation) {
+    return List.copyOf(annotated.getOrDefault(annotation, List.of()));
+  }
+
+  /// @param type the supertype
+  /// @return the indexed classes that extend or implement the given type, directly or not
+  public List<ClassInfo> subtypesOf(Class<?> type) {
+    return subtypesOf(type.getName());
+  }
+
+  /// @param type the name of the supertype
+  /// @return the indexed classes that extend or implement the given type, directly or not
+  public List<ClassInfo> subtypesOf(String type) {
+    Set<ClassInfo> result = new LinkedHashSet<>();
+    Deque<String> pending = new ArrayDeque<>();
+    pending.add(type);
+    while (!pending.isEmpty()) {
+      for (ClassInfo info : subtypes.getOrDefault(pending.poll(), List.of())) {
+        if (result.add(info)) {
+          pending.add(info.name());
+        }
+      }
+    }
+    return List.copyOf(result);
+  }
+
+  /// @param type the type of the fields
+  /// @return the indexed classes that declare static fields of the given type
+  public List<ClassInfo> withStaticFieldsOf(Class<?> type) {
+    String name = type.getName();
+    List<ClassInfo> result = new ArrayList<>();
+    for (ClassInfo info : classes.values()) {
+      for (ClassInfo.MemberInfo field : info.fields()) {
+        if (field.isStatic() && field.isOfType(name)) {
+          result.add(info);
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  /// Creates a new index with the classes of this index and the given one.
+  ///
+  /// Classes in this index take precedence over the ones with the same name in the other.
+  ///
+  /// @param other the other index
+  /// @return a new index
+  public ClassIndex merge(ClassIndex other) {
+    List<ClassInfo> result = new ArrayList<>(classes.values());
+    result.addAll(other.classes.values());
+    return new ClassIndex(result);
+  }
+
+  /// Writes this index to the given stream.
+  ///
+  /// @param output the stream to write, not closed by this method
+  public void write(OutputStream output) {
+    try {
+      SerialBitter.JSON().mapper().writeValue(output, classes.values().toArray(ClassInfo[]::new));
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Writes this index to {@link #LOCATION} inside the given directory, usually the
+  /// output directory of the build.
+  ///
+  /// @param directory the directory to write the index into
+  public void persist(Path directory) {
+    Path file = directory.resolve(LOCATION);
+    try {
+      Files.createDirectories(file.getParent());
+      try (OutputStream output = Files.newOutputStream(file)) {
+        write(output);
+      }
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// Reads an index from the given stream.
+  ///
+  /// @param input the stream to read, closed by this method
+  /// @return the index read
+  public static ClassIndex read(InputStream input) {
+    return new ClassIndex(List.of(SerialBitter.JSON().deserialize(input, ClassInfo[].class)));
+  }
+
+  /// Loads and merges all the indexes persisted in {@link #LOCATION} visible to the given
+  /// class loader.
+  ///
+  /// @param classLoader the class loader to find the indexes
+  /// @return the merged index, or an empty Optional if no index was found
+  public static Optional<ClassIndex> load(ClassLoader classLoader) {
+    try {
+      Enumeration<URL> resources = classLoader.getResources(LOCATION);
+      List<ClassInfo> result = new ArrayList<>();
+      boolean found = false;
+      while (resources.hasMoreElements()) {
+        found = true;
+        result.addAll(read(resources.nextElement().openStream()).classes());
+      }
+      return found ? Optional.of(new ClassIndex(result)) : Optional.empty();
+    } catch (IOException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.scan;
+
+import com.backpackcloud.UnbelievableException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+
+/// What is known about a class after reading its class file, without loading it.
+///
+/// All the type names are binary names, like `com.example.Foo$Bar`.
+///
+/// @param name        the name of the class
+/// @param superName   the name of the superclass, `null` for `java.lang.Object` and modules
+/// @param interfaces  the names of the interfaces directly implemented by the class
+/// @param access      the access flags of the class, as in {@link Modifier}
+/// @param annotations the names of the annotations visible at runtime on the class
+/// @param fields      the fields declared in the class
+/// @param methods     the methods and constructors declared in the class
+/// @author Ataxexe
+public record ClassInfo(String name,
+                        String superName,
+                        List<String> interfaces,
+                        int access,
+                        Set<String> annotations,
+                        List<MemberInfo> fields,
+                        List<MemberInfo> methods) {
+
+  /// Checks if the class is annotated with the given annotation.
+  ///
+  /// @param annotation the name of the annotation
+  /// @return `true` if the annotation is present in the class
+  public boolean isAnnotatedWith(String annotation) {
+    return annotations.contains(annotation);
+  }
+
+  /// @return `true` if this is an interface, including annotations.
+  @JsonIgnore
+  public boolean isInterface() {
+    return (access & Modifier.INTERFACE) != 0;
+  }
+
+  /// Loads the class, without initializing it.
+  ///
+  /// The loaded class can be used with a {@link com.backpackcloud.reflection.Mirror} for
+  /// further inspection.
+  ///
+  /// @param classLoader the class loader to load the class
+  /// @return the loaded class
+  public Class<?> load(ClassLoader classLoader) {
+    try {
+      return Class.forName(name, false, classLoader);
+    } catch (ClassNotFoundException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  /// What is known about a field or method after reading its class file.
+  ///
+  /// @param name        the name of the member
+  /// @param descriptor  the JVM descriptor of the member, like `Ljava/lang/String;`
+  /// @param access      the access flags of the member, as in {@link Modifier}
+  /// @param annotations the names of the annotations visible at runtime on the member
+  public record MemberInfo(String name, String descriptor, int access, Set<String> annotations) {
+
+    /// @return `true` if the member is static
+    @JsonIgnore
+    public boolean isStatic() {
+      return Modifier.isStatic(access);
+    }
+
+    /// Checks if this is a field of the given type.
+    ///
+    /// @param type the name of the type
+    /// @return `true` if the descriptor matches the given type
+    public boolean isOfType(String type) {
+      return descriptor.equals("L" + type.replace('.', '/') + ";");
+    }
+
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.scan;
+
+import com.backpackcloud.UnbelievableException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/// Scans directories and jar files for classes, reading the class files directly
+/// so no class gets loaded.
+///
+/// Each root is scanned in its own virtual thread, and the class files inside a root
+/// are read in parallel.
+///
+/// The scanner can also run at build time to {@link ClassIndex#persist(Path) persist}
+/// the index of the compiled classes:
+///
+/// ```
+/// java com.backpackcloud.reflection.scan.ClassScanner target/classes
+/// ```
+///
+/// @author Ataxexe
+public final class ClassScanner {
+
+  private static final String CLASS_EXTENSION = ".class";
+
+  private ClassScanner() {
+
+  }
+
+  /// Scans the given roots for classes.
+  ///
+  /// @param roots the directories and jar files to scan
+  /// @return an index of the classes found
+  public static ClassIndex scan(Collection<Path> roots) {
+    return scan(roots, name -> true);
+  }
+
+  /// Scans the given roots for classes which names match the given filter.
+  ///
+  /// @param roots  the directories and jar files to scan
+  /// @param filter the filter for the class names, like `com.example.Foo`
+  /// @return an index of the classes found
+  public static ClassIndex scan(Collection<Path> roots, Predicate<String> filter) {
+    List<ClassInfo> result = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<List<ClassInfo>>> scans = new ArrayList<>();
+      for (Path root : roots) {
+        scans.add(executor.submit(() -> scanRoot(root, filter)));
+      }
+      for (Future<List<ClassInfo>> scan : scans) {
+        result.addAll(scan.get());
+      }
+    } catch (ExecutionException e) {
+      throw new UnbelievableException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnbelievableException(e);
+    }
+    return new ClassIndex(result);
+  }
+
+  /// Scans every entry of the `java.class.path` system property.
+  ///
+  /// @param filter the filter for the class names
+  /// @return an index of the classes found
+  public static ClassIndex scanClassPath(Predicate<String> filter) {
+    List<Path> roots = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+      if (!entry.isBlank()) {
+        roots.add(Path.of(entry));
+      }
+    }
+    return scan(roots, filter);
+  }
+
+  /// Scans the given roots and persists the index in the first one.
+  ///
+  /// @param args the roots to scan, the first one must be a directory
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      throw new UnbelievableException("Usage: ClassScanner <output directory> [roots...]");
+    }
+    List<Path> roots = Stream.of(args).map(Path::of).toList();
+    scan(roots).persist(roots.getFirst());
+  }
+
+  private static List<ClassInfo> scanRoot(Path root, Predicate<String> filter) throws IOException {
+    if (Files.isDirectory(root)) {
+      return scanDirectory(root, filter);
+    }
+    if (Files.isRegularFile(root)) {
+      return scanJar(root, filter);
+    }
+    return List.of();
+  }
+
+  private static List<ClassInfo> scanDirectory(Path root, Predicate<String> filter) throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(root)) {
+      files = walk
+        .filter(path -> isClassFile(root.relativize(path).toString().replace(File.separatorChar, '/'), filter))
+        .filter(Files::isRegularFile)
+        .toList();
+    }
+    return files.parallelStream()
+      .map(path -> {
+        try (InputStream input = Files.newInputStream(path)) {
+          return ClassFileReader.read(input);
+        } catch (IOException e) {
+          throw new UnbelievableException("Unable to read " + path, e);
+        }
+      })
+      .toList();
+  }
+
+  private static List<ClassInfo> scanJar(Path jar, Predicate<String> filter) throws IOException {
+    try (ZipFile zip = new ZipFile(jar.toFile())) {
+      List<? extends ZipEntry> entries = zip.stream()
+        .filter(entry -> !entry.isDirectory() && isClassFile(entry.getName(), filter))
+        .toList();
+      return entries.parallelStream()
+        .map(entry -> {
+          try (InputStream input = zip.getInputStream(entry)) {
+            return ClassFileReader.read(input);
+          } catch (IOException e) {
+            throw new UnbelievableException("Unable to read " + entry.getName() + " in " + jar, e);
+          }
+        })
+        .toList();
+    }
+  }
+
+  private static boolean isClassFile(String path, Predicate<String> filter) {
+    if (!path.endsWith(CLASS_EXTENSION) || path.startsWith("META-INF/") || path.endsWith("module-info.class")) {
+      return false;
+    }
+    String name = path.substring(0, path.length() - CLASS_EXTENSION.length()).replace('/', '.');
+    return filter.test(name);
+  }
+
+}
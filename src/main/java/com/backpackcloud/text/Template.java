@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.text;
+
+import com.backpackcloud.UnbelievableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/// A text with placeholders in the form `${source:key}`, parsed once into a list of
+/// tokens so it can be rendered many times without scanning the text again.
+///
+/// A literal `${` can be produced by escaping it as `$${`.
+///
+/// @author Ataxexe
+public final class Template {
+
+  /// A piece of a parsed template.
+  public sealed interface Token permits Literal, Placeholder {
+
+  }
+
+  /// A piece of text that is rendered as it is.
+  ///
+  /// @param text the text
+  public record Literal(String text) implements Token {
+
+  }
+
+  /// A reference to a value that is resolved on each rendering.
+  ///
+  /// @param source the source of the value, the part before the first `:`
+  /// @param key    the key of the value in the source, the part after the first `:`
+  public record Placeholder(String source, String key) implements Token {
+
+    @Override
+    public String toString() {
+      return "${" + source + ":" + key + "}";
+    }
+
+  }
+
+  private final String text;
+  private final Token[] tokens;
+  private final List<Placeholder> placeholders;
+
+  private Template(String text, Token[] tokens, List<Placeholder> placeholders) {
+    this.text = text;
+    this.tokens = tokens;
+    this.placeholders = placeholders;
+  }
+
+  /// @return the text this template was parsed from
+  public String text() {
+    return text;
+  }
+
+  /// @return every placeholder in this template, in the order they appear
+  public List<Placeholder> placeholders() {
+    return placeholders;
+  }
+
+  /// @return `true` if this template doesn't have any placeholder
+  public boolean isStatic() {
+    return placeholders.isEmpty();
+  }
+
+  /// Renders this template by replacing each placeholder with the value given by the resolver.
+  ///
+  /// `null` values are rendered as empty strings.
+  ///
+  /// @param resolver the function to resolve the placeholder values
+  /// @return the rendered text
+  public String render(Function<Placeholder, String> resolver) {
+    if (tokens.length == 1 && tokens[0] instanceof Literal literal) {
+      return literal.text();
+    }
+    StringBuilder result = new StringBuilder(text.length());
+    for (Token token : tokens) {
+      switch (token) {
+        case Literal literal -> result.append(literal.text());
+        case Placeholder placeholder -> {
+          String value = resolver.apply(placeholder);
+          if (value != null) {
+            result.append(value);
+          }
+        }
+      }
+    }
+    return result.toString();
+  }
+
+  /// Parses the given text into a template.
+  ///
+  /// @param text the text to parse
+  /// @return the parsed template
+  /// @throws UnbelievableException if a placeholder is not closed or has no source
+  public static Template parse(String text) {
+    List<Token> tokens = new ArrayList<>();
+    List<Placeholder> placeholders = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+
+    int i = 0;
+    while (i < text.length()) {
+      if (text.startsWith("$${", i)) {
+        literal.append("${");
+        i += 3;
+      } else if (text.startsWith("${", i)) {
+        int end = text.indexOf('}', i + 2);
+        if (end < 0) {
+          throw new UnbelievableException("Unclosed placeholder at " + i + ": " + text);
+        }
+        String reference = text.substring(i + 2, end);
+        int separator = reference.indexOf(':');
+        if (separator <= 0) {
+          throw new UnbelievableException("Placeholder without a source: ${" + reference + "}");
+        }
+        if (!literal.isEmpty()) {
+          tokens.add(new Literal(literal.toString()));
+          literal.setLength(0);
+        }
+        Placeholder placeholder = new Placeholder(
+          reference.substring(0, separator).trim(),
+          reference.substring(separator + 1).trim()
+        );
+        tokens.add(placeholder);
+        placeholders.add(placeholder);
+        i = end + 1;
+      } else {
+        literal.append(text.charAt(i));
+        i++;
+      }
+    }
+    if (!literal.isEmpty() || tokens.isEmpty()) {
+      tokens.add(new Literal(literal.toString()));
+    }
+
+    return new Template(text, tokens.toArray(Token[]::new), List.copyOf(placeholders));
+  }
+
+}
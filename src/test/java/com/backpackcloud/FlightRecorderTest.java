@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.backpackcloud;
+
+import com.backpackcloud.configuration.Configuration;
+import com.backpackcloud.io.SerialBitter;
+import com.backpackcloud.reflection.Context;
+import com.backpackcloud.reflection.Mirror;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderTest {
+
+  public static class Recorded {
+
+    public Recorded() {
+    }
+
+  }
+
+  @Test
+  public void testEvents() throws Exception {
+    Path file = Files.createTempFile("fabric", ".jfr");
+    Path content = Files.createTempFile("fabric", ".txt");
+    Files.writeString(content, "content");
+    String url = content.toUri().toURL().toExternalForm();
+    try (Recording recording = new Recording()) {
+      recording.enable("fabric.Serialization");
+      recording.enable("fabric.ConfigurationRead");
+      recording.enable("fabric.MirrorScan");
+      recording.enable("fabric.ContextCreate");
+      recording.start();
+
+      SerialBitter.JSON().deserialize("{\"name\": \"fabric\"}", Map.class);
+      Configuration.property("fabric.undefined.property").get();
+      Configuration.url(url).read();
+      new Context().create(Recorded.class);
+      Mirror.reflect(Recorded.class).fields();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    Files.delete(file);
+    Files.delete(content);
+
+    RecordedEvent serialization = find(events, "fabric.Serialization");
+    assertEquals("deserialize", serialization.getString("operation"));
+    assertEquals("JSON", serialization.getString("format"));
+    assertEquals(Map.class.getName(), serialization.getClass("type").getName());
+    assertEquals(18, serialization.getLong("size"));
+
+    RecordedEvent read = read(events, "property");
+    assertEquals("fabric.undefined.property", read.getString("path"));
+    assertFalse(read.getBoolean("hit"));
+
+    RecordedEvent urlRead = read(events, "url");
+    assertEquals(url, urlRead.getString("path"));
+    assertTrue(urlRead.getBoolean("hit"));
+
+    assertEquals(Recorded.class.getName(), find(events, "fabric.ContextCreate").getClass("type").getName());
+
+    RecordedEvent scan = events.stream()
+      .filter(event -> event.getEventType().getName().equals("fabric.MirrorScan"))
+      .filter(event -> event.getString("kind").equals("fields"))
+      .findFirst()
+      .orElseThrow();
+    assertEquals(Recorded.class.getName(), scan.getClass("type").getName());
+  }
+
+  private static RecordedEvent read(List<RecordedEvent> events, String source) {
+    return events.stream()
+      .filter(event -> event.getEventType().getName().equals("fabric.ConfigurationRead"))
+      .filter(event -> event.getString("source").equals(source))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  private static RecordedEvent find(List<RecordedEvent> events, String name) {
+    return events.stream()
+      .filter(event -> event.getEventType().getName().equals(name))
+      .findFirst()
+      .orElseThrow();
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.backpackcloud;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnbelievableExceptionTest {
+
+  private static final UnbelievableException INVALID = UnbelievableException.preallocated("invalid");
+
+  @Test
+  public void testStackless() {
+    UnbelievableException exception = UnbelievableException.stackless("invalid");
+    assertEquals("invalid", exception.getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  public void testPreallocated() {
+    UnbelievableException thrown = assertThrows(UnbelievableException.class, () -> {
+      throw INVALID;
+    });
+    assertSame(INVALID, thrown);
+
+    thrown.addSuppressed(new RuntimeException());
+    assertEquals(0, thrown.getSuppressed().length);
+    assertEquals(0, thrown.getStackTrace().length);
+    assertThrows(IllegalStateException.class, () -> thrown.initCause(new RuntimeException()));
+  }
+
+  @Test
+  public void testGlobalSwitch() {
+    assertTrue(UnbelievableException.because("with trace").get().getStackTrace().length > 0);
+    UnbelievableException.stackTraces(false);
+    try {
+      assertEquals(0, UnbelievableException.because("without trace").get().getStackTrace().length);
+    } finally {
+      UnbelievableException.stackTraces(true);
+    }
+  }
+
+}
@@ -24,12 +24,26 @@
 
 package com.backpackcloud.configuration;
 
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.io.SerialBitter;
+import com.backpackcloud.io.deserializers.ConfigurationDeserializer;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static com.backpackcloud.configuration.Configuration.configuration;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ConfigurationTest {
@@ -84,6 +98,31 @@ public class ConfigurationTest {
     assertEquals("bar", value.get());
   }
 
+  @Test
+  public void testSnapshotValue() {
+    Configuration value = ConfigurationSnapshot.ENVIRONMENT.configuration("JAVA_HOME");
+    assertInstanceOf(SnapshotConfiguration.class, value);
+    assertTrue(value.isSet());
+    assertEquals(System.getenv("JAVA_HOME"), value.get());
+
+    ConfigurationSnapshot snapshot = ConfigurationSnapshot.PROPERTIES.refresh();
+    value = snapshot.configuration("snapshot.test");
+    assertFalse(value.isSet());
+
+    try {
+      System.setProperty("snapshot.test", "bar");
+      assertFalse(value.isSet());
+
+      snapshot.refresh();
+      assertTrue(value.isSet());
+      assertEquals("bar", value.get());
+    } finally {
+      System.clearProperty("snapshot.test");
+      // the snapshot is shared, so it shouldn't keep the property either
+      snapshot.refresh();
+    }
+  }
+
   @Test
   public void testFileValue() {
     Configuration value = Configuration.file("LICENSE");
@@ -120,6 +159,229 @@ public class ConfigurationTest {
     assertTrue(value.get().contains("The MIT License (MIT)"));
   }
 
+  @Test
+  public void testCompiledChain() {
+    ConfigurationChain chain = configuration()
+      .env("NOT_SET")
+      .property("compiled.test")
+      .value("foo");
+    CompiledConfiguration compiled = chain.compile();
+
+    assertTrue(compiled.isSet());
+    assertEquals("foo", compiled.get());
+
+    System.setProperty("compiled.test", "bar");
+    try {
+      // the chain was resolved when it was built
+      assertEquals("foo", chain.get());
+      assertEquals("foo", compiled.get());
+
+      compiled.refresh();
+      assertInstanceOf(SystemPropertyConfiguration.class, compiled.source());
+      assertEquals("bar", compiled.get());
+    } finally {
+      System.clearProperty("compiled.test");
+    }
+
+    assertFalse(configuration().env("NOT_SET").compile().isSet());
+  }
+
+  @Test
+  public void testConcurrentProbing() {
+    // every probe waits for the others, so this only finishes if they run at the same time
+    CountDownLatch probing = new CountDownLatch(4);
+    AtomicBoolean sequential = new AtomicBoolean();
+    Configuration unset = new NotSuppliedConfiguration() {
+      @Override
+      public boolean isSet() {
+        probing.countDown();
+        try {
+          if (!probing.await(5, TimeUnit.SECONDS)) {
+            sequential.set(true);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return false;
+      }
+    };
+    Configuration set = Configuration.value("foo");
+
+    Configuration value = ConfigurationSupplier.probeConcurrently(List.of(unset, unset, unset, unset, set));
+
+    assertEquals("foo", value.get());
+    assertFalse(sequential.get(), "probes should not run sequentially");
+
+    assertFalse(ConfigurationSupplier.probeConcurrently(List.of(unset, unset)).isSet());
+  }
+
+  // a source in a slow filesystem, where checking for the file takes a fixed delay
+  private static Configuration slowSource(long delay, boolean set) {
+    return new NotSuppliedConfiguration() {
+      @Override
+      public boolean isSet() {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return set;
+      }
+    };
+  }
+
+  @Test
+  public void testProbingStartupTime() {
+    long delay = 200;
+    List<Configuration> candidates = List.of(
+      slowSource(delay, false),
+      slowSource(delay, false),
+      slowSource(delay, false),
+      slowSource(delay, true)
+    );
+
+    long start = System.nanoTime();
+    Configuration sequential = candidates.stream().filter(Configuration::isSet).findFirst().orElseThrow();
+    long sequentialTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    start = System.nanoTime();
+    Configuration concurrent = ConfigurationSupplier.probeConcurrently(candidates);
+    long concurrentTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertSame(sequential, concurrent);
+    assertTrue(sequentialTime >= candidates.size() * delay, "sequential probing took " + sequentialTime + "ms");
+    // about one delay, with room for a slow machine, but far from the sum of the delays
+    assertTrue(concurrentTime < 2 * delay, "concurrent probing took " + concurrentTime + "ms");
+  }
+
+  @Test
+  public void testConfigurationSupplier() {
+    ConfigurationSupplier supplier = new ConfigurationSupplier("fabric-not-found");
+    assertFalse(supplier.get().isSet());
+    assertFalse(supplier.getConcurrently().isSet());
+
+    Configuration cached = supplier.cached();
+    assertSame(cached, supplier.cached());
+  }
+
+  public record Server(String host, int port) {
+
+  }
+
+  @Test
+  public void testBoundConfiguration() {
+    System.setProperty("bound.test", "{\"host\": \"localhost\", \"port\": 8080}");
+    BoundConfiguration<Server> bound = Configuration.property("bound.test").as(Server.class, SerialBitter.JSON());
+
+    Server server = bound.get();
+    assertEquals("localhost", server.host());
+    assertEquals(8080, server.port());
+    assertSame(server, bound.get());
+
+    bound.refresh();
+    assertSame(server, bound.get());
+
+    System.setProperty("bound.test", "{\"host\": \"localhost\", \"port\": 9090}");
+    assertSame(server, bound.get());
+
+    bound.refresh();
+    assertEquals(9090, bound.get().port());
+
+    System.clearProperty("bound.test");
+    bound.refresh();
+    assertEquals(null, bound.get());
+  }
+
+  @Test
+  public void testInterpolation() {
+    try {
+      System.setProperty("interpolation.dir", "${env:JAVA_HOME}/lib");
+      Configuration value = Configuration.value("${property:interpolation.dir}/data, $${literal}").interpolated();
+
+      String result = value.get();
+      assertEquals(System.getenv("JAVA_HOME") + "/lib/data, ${literal}", result);
+      assertSame(result, value.get());
+
+      System.setProperty("interpolation.dir", "/opt");
+      assertEquals("/opt/data, ${literal}", value.get());
+
+      UnbelievableException unresolved = assertThrows(UnbelievableException.class,
+        () -> Configuration.value("[${env:NOT_SET}]").interpolated().get());
+      assertTrue(unresolved.getMessage().contains("${env:NOT_SET}"));
+    } finally {
+      System.clearProperty("interpolation.dir");
+    }
+  }
+
+  @Test
+  public void testInterpolationFromFile() throws IOException {
+    Path file = Files.createTempFile("interpolation", ".txt");
+    try {
+      Files.writeString(file, "first");
+      Configuration value = Configuration.value("${file:" + file + "}!").interpolated();
+
+      String result = value.get();
+      assertEquals("first!", result);
+      assertSame(result, value.get());
+
+      Files.writeString(file, "second");
+      file.toFile().setLastModified(file.toFile().lastModified() + 2000);
+      assertEquals("second!", value.get());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testInterpolationCycle() {
+    try {
+      System.setProperty("interpolation.a", "${property:interpolation.b}");
+      System.setProperty("interpolation.b", "${property:interpolation.a}");
+
+      Configuration value = Configuration.property("interpolation.a").interpolated();
+      assertThrows(UnbelievableException.class, value::get);
+      assertThrows(UnbelievableException.class, () -> Configuration.value("${unknown:foo}").interpolated().get());
+      assertThrows(UnbelievableException.class, () -> Configuration.value("${env:HOME").interpolated().get());
+    } finally {
+      System.clearProperty("interpolation.a");
+      System.clearProperty("interpolation.b");
+    }
+  }
+
+  @Test
+  public void testConfigurationTree() {
+    try {
+      System.setProperty("tree-test.server.http.port", "9090");
+      String content = """
+        {
+          "server": {
+            "http": {"host": "localhost", "port": 8080},
+            "hosts": ["a", "b"]
+          },
+          "java": {"home": "none"}
+        }
+        """;
+
+      ConfigurationTree tree = ConfigurationTree.tree()
+        .env(null)
+        .property("tree-test")
+        .configuration(Configuration.value(content), SerialBitter.JSON())
+        .values(Map.of("server.http.host", "example.com", "server.timeout", 30));
+
+      assertEquals("localhost", tree.get("server.http.host").get());
+      assertEquals(9090, tree.get("server.http.port").asInteger().orElseThrow());
+      assertEquals(30, tree.get("server.timeout").asInteger().orElseThrow());
+      assertEquals("b", tree.get("server.hosts.1").get());
+      assertEquals(2, tree.get("server.hosts").split().count());
+      assertEquals(System.getenv("JAVA_HOME"), tree.get("java.home").get());
+
+      assertFalse(tree.contains("server.http"));
+      assertTrue(tree.get("server.http").isEmpty());
+    } finally {
+      System.clearProperty("tree-test.server.http.port");
+    }
+  }
+
   @Test
   public void testNotSuppliedConfiguration() {
     Configuration value = Configuration.NOT_SUPPLIED;
@@ -129,4 +391,44 @@ public class ConfigurationTest {
     assertTrue(value.readLines().isEmpty());
   }
 
+  @Test
+  public void testDeserialization() {
+    SerialBitter serialBitter = SerialBitter.JSON();
+
+    Configuration value = serialBitter.deserialize("\"foo\"", Configuration.class);
+    assertTrue(value.isSet());
+    assertEquals("foo", value.get());
+
+    value = serialBitter.deserialize("{\"env\": \"NOT_SET\", \"file\": \"LICENSE\"}", Configuration.class);
+    assertInstanceOf(FileConfiguration.class, value);
+
+    value = serialBitter.deserialize("{\"env\": \"NOT_SET\"}", Configuration.class);
+    assertFalse(value.isSet());
+  }
+
+  @Test
+  public void testDeserializationStopsAtFirstSetSource() {
+    SerialBitter serialBitter = SerialBitter.JSON();
+
+    // a malformed url would fail if every source was created upfront
+    Configuration value = serialBitter.deserialize(
+      "{\"file\": \"LICENSE\", \"url\": \"not a url\"}", Configuration.class);
+    assertInstanceOf(FileConfiguration.class, value);
+  }
+
+  @Test
+  public void testCustomDeserializationSource() {
+    ConfigurationDeserializer.register("upper", (value, context) -> Configuration.value(value.toUpperCase()));
+    try {
+      Configuration value = SerialBitter.JSON()
+        .deserialize("{\"env\": \"NOT_SET\", \"upper\": \"foo\"}", Configuration.class);
+      assertEquals("FOO", value.get());
+    } finally {
+      assertTrue(ConfigurationDeserializer.unregister("upper"));
+    }
+    Configuration value = SerialBitter.JSON()
+      .deserialize("{\"env\": \"NOT_SET\", \"upper\": \"foo\"}", Configuration.class);
+    assertFalse(value.isSet());
+  }
+
 }
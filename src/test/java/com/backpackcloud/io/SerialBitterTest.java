@@ -0,0 +1,329 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.backpackcloud.io;
+
+import com.backpackcloud.UnbelievableException;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerialBitterTest {
+
+  @Test
+  public void testBoundedRecyclerPool() {
+    BoundedRecyclerPool pool = new BoundedRecyclerPool(2);
+    BufferRecycler first = pool.acquirePooled();
+    BufferRecycler second = pool.acquirePooled();
+    BufferRecycler third = pool.acquirePooled();
+    assertNotSame(first, second);
+
+    pool.releasePooled(first);
+    pool.releasePooled(second);
+    pool.releasePooled(third);
+    assertEquals(2, pool.available());
+
+    BufferRecycler reused = pool.acquirePooled();
+    assertTrue(reused == first || reused == second);
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testRecyclerPoolWithVirtualThreads() throws Exception {
+    BoundedRecyclerPool pool = new BoundedRecyclerPool(4);
+    SerialBitter serialBitter = SerialBitter.JSON().recyclerPool(pool);
+    assertSame(pool, serialBitter.mapper().getFactory()._getRecyclerPool());
+    assertSame(BoundedRecyclerPool.shared(), SerialBitter.JSON().mapper().getFactory()._getRecyclerPool());
+
+    ObjectMapper mapper = new ObjectMapper();
+    RecyclerPool<BufferRecycler> own = JsonRecyclerPools.newConcurrentDequePool();
+    mapper.getFactory().setRecyclerPool(own);
+    assertSame(own, new SerialBitter(mapper).mapper().getFactory()._getRecyclerPool());
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<Map>> results = executor.invokeAll(Collections.nCopies(1000,
+        () -> serialBitter.deserialize("{\"name\": \"fabric\"}", Map.class)));
+      for (Future<Map> result : results) {
+        assertEquals("fabric", result.get().get("name"));
+      }
+    }
+    // buffers went back to the pool instead of dying with their threads
+    assertTrue(pool.available() > 0);
+
+    SerialBitter other = SerialBitter.JSON().recyclerPool(JsonRecyclerPools.threadLocalPool());
+    assertEquals("{}", other.serialize(Map.of()));
+  }
+
+  public record Item(int id, String name) {
+  }
+
+  @Test
+  public void testChunkedElements() {
+    byte[] input = "[{\"id\": 1, \"name\": \"first\"}, {\"id\": 2, \"name\": \"sec\u00f3nd\"}]"
+      .getBytes(StandardCharsets.UTF_8);
+    List<Item> items = new ArrayList<>();
+    ChunkedDeserializer<Item> deserializer = SerialBitter.JSON().elements(Item.class, items::add);
+
+    ByteBuffer chunk = ByteBuffer.allocate(3);
+    for (int i = 0; i < input.length; i += 3) {
+      chunk.clear();
+      chunk.put(input, i, Math.min(3, input.length - i)).flip();
+      deserializer.feed(chunk);
+      if (i < 20) {
+        assertTrue(items.isEmpty());
+      }
+    }
+    assertEquals(List.of(new Item(1, "first")), items.subList(0, 1));
+    deserializer.end();
+    assertEquals(List.of(new Item(1, "first"), new Item(2, "sec\u00f3nd")), items);
+  }
+
+  @Test
+  public void testChunkedRootValues() {
+    List<Item> items = new ArrayList<>();
+    ChunkedDeserializer<Item> deserializer = SerialBitter.JSON().chunked(Item.class, items::add);
+    deserializer.feed("{\"id\": 1}\n{\"id\"".getBytes(StandardCharsets.UTF_8));
+    assertEquals(1, items.size());
+    deserializer.feed(": 2}".getBytes(StandardCharsets.UTF_8));
+    deserializer.end();
+    assertEquals(2, items.get(1).id());
+
+    ChunkedDeserializer<Item> incomplete = SerialBitter.JSON().chunked(Item.class, items::add);
+    incomplete.feed("{\"id\": 3".getBytes(StandardCharsets.UTF_8));
+    assertThrows(UnbelievableException.class, incomplete::end);
+  }
+
+  @Test
+  public void testExtract() {
+    String input = """
+      {
+        "items": [{"id": 1}, {"id": 2}],
+        "meta": {"id": 42, "version": "1.2.0", "tags": ["a", "b"]},
+        "ignored": {"deep": {"deeper": true}}
+      }
+      """;
+    Projection projection = SerialBitter.JSON().extract(input, "/meta/id", "/meta/tags", "/items/1/id", "/missing");
+
+    assertEquals(42, projection.get("/meta/id", Integer.class).orElseThrow());
+    assertEquals(List.of("a", "b"), projection.get("/meta/tags", List.class).orElseThrow());
+    assertEquals(2L, projection.get("/items/1/id", Long.class).orElseThrow());
+    assertTrue(projection.node("/missing").isEmpty());
+    assertTrue(projection.get("/meta/version", String.class).isEmpty());
+  }
+
+  @Test
+  public void testExtractNestedPointers() {
+    String input = """
+      {"meta": {"id": 42, "tags": ["a", "b"]}, "other": 1}
+      """;
+    Projection projection = SerialBitter.JSON().extract(input, "/meta", "/meta/id", "/meta/tags/1", "/meta/missing");
+
+    assertEquals(42, projection.get("/meta/id", Integer.class).orElseThrow());
+    assertEquals("b", projection.get("/meta/tags/1", String.class).orElseThrow());
+    assertEquals(2, projection.node("/meta").orElseThrow().size());
+    assertFalse(projection.contains("/meta/missing"));
+  }
+
+  @Test
+  public void testExtractYaml() {
+    String input = """
+      meta:
+        id: 42
+        tags:
+          - a
+          - b
+      ignored:
+        deep: true
+      """;
+    Projection projection = SerialBitter.YAML().extract(input, "/meta/id", "/meta/tags/1");
+
+    assertEquals(42, projection.get("/meta/id", Integer.class).orElseThrow());
+    assertEquals("b", projection.get("/meta/tags/1", String.class).orElseThrow());
+  }
+
+  @Test
+  public void testExtractXmlIsRejected() {
+    assertThrows(UnbelievableException.class, () -> SerialBitter.XML().extract("<meta><id>42</id></meta>", "/meta/id"));
+  }
+
+  @Test
+  public void testExtractStopsReading() {
+    // everything after the value is malformed, so reading it would fail
+    Projection projection = SerialBitter.JSON().extract("{\"skipped\": {\"a\": [1, 2]}, \"id\": 7, ???", "/id");
+    assertEquals(7, projection.get("/id", Integer.class).orElseThrow());
+  }
+
+  public static class Catalog {
+
+    public String name;
+    public List<String> tags = new ArrayList<>();
+    public Map<String, Object> settings = new HashMap<>();
+
+  }
+
+  @Test
+  public void testUpdate() {
+    Catalog catalog = new Catalog();
+    catalog.name = "old";
+    catalog.tags.add("first");
+    List<String> tags = catalog.tags;
+
+    SerialBitter serialBitter = SerialBitter.JSON().mergeable(List.class);
+    Catalog updated = serialBitter.update(catalog, "{\"name\": \"new\", \"tags\": [\"second\"]}");
+
+    assertSame(catalog, updated);
+    assertEquals("new", catalog.name);
+    assertSame(tags, catalog.tags);
+    assertEquals(List.of("first", "second"), catalog.tags);
+
+    Catalog replaced = new Catalog();
+    replaced.tags.add("first");
+    SerialBitter.JSON().update(replaced, "{\"tags\": [\"second\"]}");
+    assertEquals(List.of("second"), replaced.tags);
+  }
+
+  @Test
+  public void testMergePatch() {
+    Map<String, Object> document = new HashMap<>(Map.of(
+      "title", "Goodbye!",
+      "author", new HashMap<>(Map.of("givenName", "John", "familyName", "Doe")),
+      "tags", List.of("example", "sample")
+    ));
+    Object author = document.get("author");
+
+    Map<String, Object> patched = SerialBitter.JSON().patch(document, """
+      {"title": "Hello!", "author": {"familyName": null}, "tags": ["example"], "phone": "+01-123-456-7890"}
+      """);
+
+    assertSame(document, patched);
+    assertSame(author, document.get("author"));
+    assertEquals(Map.of("givenName", "John"), document.get("author"));
+    assertEquals("Hello!", document.get("title"));
+    assertEquals(List.of("example"), document.get("tags"));
+    assertEquals("+01-123-456-7890", document.get("phone"));
+
+    Catalog catalog = new Catalog();
+    catalog.settings.put("cache", true);
+    catalog.settings.put("timeout", 10);
+    Catalog patchedCatalog = SerialBitter.JSON().patch(catalog, "{\"name\": \"catalog\", \"settings\": {\"cache\": null}}");
+    assertSame(catalog, patchedCatalog);
+    assertEquals("catalog", catalog.name);
+    assertEquals(Map.of("timeout", 10), catalog.settings);
+
+    // replacements keep their own types and new objects don't keep the nulls
+    SerialBitter.JSON().patch(catalog, """
+      {"settings": {"timeout": 10.5, "retries": {"count": 3, "delay": null}}}
+      """);
+    assertEquals(10.5, catalog.settings.get("timeout"));
+    assertEquals(Map.of("count", 3), catalog.settings.get("retries"));
+    SerialBitter.JSON().patch(catalog, "{\"settings\": {\"timeout\": \"10s\"}}");
+    assertEquals("10s", catalog.settings.get("timeout"));
+  }
+
+  @Test
+  public void testParallelElements() throws Exception {
+    StringBuilder array = new StringBuilder("[");
+    StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      String item = "{\"id\": " + i + ", \"name\": \"item " + i + " \u00e9\"}";
+      array.append(i > 0 ? ",\n" : "").append(item);
+      lines.append(item).append("\n");
+    }
+    array.append("]");
+    Path arrayFile = Files.createTempFile("elements", ".json");
+    Path linesFile = Files.createTempFile("elements", ".ndjson");
+    Files.writeString(arrayFile, array);
+    Files.writeString(linesFile, lines);
+
+    SerialBitter serialBitter = SerialBitter.JSON();
+    try (Stream<Item> items = serialBitter.parallelElements(arrayFile.toFile(), Item.class)) {
+      List<Item> result = items.toList();
+      assertEquals(5000, result.size());
+      for (int i = 0; i < result.size(); i++) {
+        assertEquals(new Item(i, "item " + i + " \u00e9"), result.get(i));
+      }
+    }
+    try (Stream<Item> items = serialBitter.parallelElements(linesFile.toFile(), Item.class, false)) {
+      assertEquals(5000, items.map(Item::id).collect(Collectors.toSet()).size());
+    } finally {
+      Files.delete(arrayFile);
+      Files.delete(linesFile);
+    }
+  }
+
+  @Test
+  public void testParallelScalarElements() throws Exception {
+    Path arrayFile = Files.createTempFile("elements", ".json");
+    Path linesFile = Files.createTempFile("elements", ".ndjson");
+    Files.writeString(arrayFile, "[\"first\", \"second \u00e9\", 3, true]");
+    Files.writeString(linesFile, "\"first\"\n\"second\"\n");
+
+    SerialBitter serialBitter = SerialBitter.JSON();
+    try (Stream<Object> elements = serialBitter.parallelElements(arrayFile.toFile(), Object.class)) {
+      assertEquals(List.of("first", "second \u00e9", 3, true), elements.toList());
+    }
+    try (Stream<String> elements = serialBitter.parallelElements(linesFile.toFile(), String.class)) {
+      assertEquals(List.of("first", "second"), elements.toList());
+    } finally {
+      Files.delete(arrayFile);
+      Files.delete(linesFile);
+    }
+  }
+
+  @Test
+  public void testParallelArrayLines() throws Exception {
+    Path linesFile = Files.createTempFile("elements", ".ndjson");
+    Files.writeString(linesFile, "[1, 2]\n[3, 4]\n");
+
+    try (Stream<Integer> elements = SerialBitter.JSON().parallelElements(linesFile.toFile(), Integer.class)) {
+      assertThrows(UnbelievableException.class, elements::toList);
+    } finally {
+      Files.delete(linesFile);
+    }
+  }
+
+}
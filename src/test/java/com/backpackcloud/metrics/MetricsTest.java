@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.backpackcloud.metrics;
+
+import com.backpackcloud.configuration.Configuration;
+import com.backpackcloud.io.SerialBitter;
+import com.backpackcloud.metrics.SimpleMetricsRegistry.Distribution;
+import com.backpackcloud.reflection.Context;
+import com.backpackcloud.reflection.Mirror;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsTest {
+
+  public static class Reported {
+
+    public Reported() {
+    }
+
+  }
+
+  @Test
+  public void testDistribution() {
+    Distribution distribution = new SimpleMetricsRegistry().histogram("sizes");
+    for (int i = 1; i <= 1000; i++) {
+      distribution.record(i);
+    }
+    assertEquals(1000, distribution.count());
+    assertEquals(500500, distribution.sum());
+    assertEquals(1000, distribution.max());
+
+    long median = distribution.percentile(0.5);
+    assertTrue(median <= 500 && median >= 500 * 7 / 8, "median was " + median);
+    long p99 = distribution.percentile(0.99);
+    assertTrue(p99 <= 990 && p99 >= 990 * 7 / 8, "p99 was " + p99);
+  }
+
+  @Test
+  public void testReportedMetrics() throws IOException {
+    Path file = Files.createTempFile("metrics", ".txt");
+    Files.writeString(file, "content");
+    URL url = file.toUri().toURL();
+    SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+    Metrics.enable(registry);
+    try {
+      assertTrue(Metrics.enabled());
+
+      SerialBitter.JSON().deserialize("{\"name\": \"fabric\"}", Map.class);
+      new Context().create(Reported.class);
+      Mirror.reflect(Reported.class).fields();
+      Configuration.property("java.version").get();
+      SerialBitter.JSON().serialize(Map.of("name", "ação"));
+      assertEquals("content", Configuration.url(url.toExternalForm()).read());
+
+      assertEquals(1, registry.findDistribution("serialbitter.deserialize", "type", Map.class.getName())
+        .orElseThrow().count());
+      assertEquals(18, registry.findDistribution("serialbitter.deserialize.size", "type", Map.class.getName())
+        .orElseThrow().max());
+      assertEquals(1, registry.findDistribution("context.create", "type", Reported.class.getName())
+        .orElseThrow().count());
+      assertEquals(1, registry.findCounter("mirror.scan", "kind", "fields").orElseThrow().count());
+      assertEquals(1, registry.findDistribution("configuration.read", "source", "property")
+        .orElseThrow().count());
+      // sizes are in bytes, so each non-ascii char counts twice here
+      assertEquals(17, registry.findDistribution("serialbitter.serialize.size", "type", Map.of("", "").getClass().getName())
+        .orElseThrow().max());
+      assertEquals(1, registry.findDistribution("configuration.read", "source", "url")
+        .orElseThrow().count());
+    } finally {
+      Metrics.disable();
+      Files.delete(file);
+    }
+    assertFalse(Metrics.enabled());
+  }
+
+}
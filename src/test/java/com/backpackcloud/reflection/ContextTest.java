@@ -27,12 +27,21 @@ package com.backpackcloud.reflection;
 import com.backpackcloud.UnbelievableException;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.backpackcloud.reflection.predicates.ParameterPredicates.annotatedWith;
 import static com.backpackcloud.reflection.predicates.ParameterPredicates.ofType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ContextTest {
 
@@ -70,4 +79,223 @@ public class ContextTest {
     assertEquals(10, args[2]);
   }
 
+  public interface Repository {
+  }
+
+  public static class MemoryRepository implements Repository {
+  }
+
+  public static class Service {
+
+    private final Repository repository;
+    private final String name;
+
+    public Service(Repository repository, String name) {
+      this.repository = repository;
+      this.name = name;
+    }
+
+  }
+
+  public static class Controller {
+
+    private final Service service;
+
+    public Controller(Service service) {
+      this.service = service;
+    }
+
+  }
+
+  public static class Message {
+
+    private final String text;
+
+    public Message(Exception error) {
+      this.text = error.getMessage();
+    }
+
+    public Message(String text) {
+      this.text = text;
+    }
+
+  }
+
+  public static class Chicken {
+
+    public Chicken(Egg egg) {
+    }
+
+  }
+
+  public static class Egg {
+
+    public Egg(Chicken chicken) {
+    }
+
+  }
+
+  @Test
+  public void testComponents() throws Exception {
+    Context context = new Context()
+      .when(ofType(String.class), "service")
+      .register(Repository.class, MemoryRepository.class, Scope.SINGLETON)
+      .register(Service.class, Scope.PROTOTYPE)
+      .register(Controller.class, Scope.THREAD)
+      .wire();
+
+    Controller controller = context.create(Controller.class);
+    assertEquals("service", controller.service.name);
+    assertInstanceOf(MemoryRepository.class, controller.service.repository);
+
+    assertSame(context.get(Repository.class), controller.service.repository);
+    assertNotSame(context.get(Service.class), context.get(Service.class));
+    assertSame(context.get(Service.class).repository, context.get(Service.class).repository);
+
+    assertSame(context.get(Controller.class), context.get(Controller.class));
+    Controller other = CompletableFuture.supplyAsync(() -> context.get(Controller.class)).get();
+    assertNotSame(context.get(Controller.class), other);
+
+    assertThrows(NullPointerException.class, () -> context.register(Service.class, (Service) null));
+  }
+
+  @Test
+  public void testConstructorSelection() {
+    // a condition resolving to null doesn't satisfy a parameter, but a non-null default does
+    Context context = new Context(parameter -> parameter.getType() == String.class ? "default" : null)
+      .when(ofType(Exception.class), parameter -> null);
+
+    assertEquals("default", context.create(Message.class).text);
+
+    // wiring doesn't run the conditions or the default value, so only constants are known to be null
+    AtomicInteger calls = new AtomicInteger();
+    Context components = new Context(() -> {
+      calls.incrementAndGet();
+      return "default";
+    })
+      .when(ofType(Exception.class), (Object) null)
+      .register(Message.class, Scope.PROTOTYPE)
+      .wire();
+    assertEquals(0, calls.get());
+    assertEquals("default", components.get(Message.class).text);
+    assertEquals(1, calls.get());
+
+    Context failing = new Context().when(ofType(Exception.class), (Object) null);
+    assertThrows(UnbelievableException.class, () -> failing.create(Message.class));
+    assertThrows(UnbelievableException.class, () -> failing.register(Message.class).wire());
+  }
+
+  @Test
+  public void testComponentCycle() {
+    Context context = new Context()
+      .register(Chicken.class)
+      .register(Egg.class);
+
+    UnbelievableException exception = assertThrows(UnbelievableException.class, context::wire);
+    assertTrue(exception.getMessage().startsWith("Dependency cycle"));
+    assertThrows(UnbelievableException.class, () -> context.get(Chicken.class));
+  }
+
+  @Test
+  public void testAllocationFreeResolution() throws NoSuchMethodException {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Context context = new Context()
+      .when(ofType(String.class), "foo")
+      .when(ofType(int.class), 10)
+      .register(Repository.class, new MemoryRepository());
+
+    Method method = ContextTest.class.getDeclaredMethod("doSomething", String.class, Exception.class, int.class);
+    Object[] args = new Object[3];
+    for (int i = 0; i < 100_000; i++) {
+      context.resolve(method, args);
+    }
+
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < 100_000; i++) {
+      context.resolve(method, args);
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertEquals("foo", args[0]);
+    assertEquals(10, args[2]);
+    // a single allocation per resolution would already be more than a megabyte
+    assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+  }
+
+  private static CountDownLatch startup;
+
+  // only finishes if the other slow component is being created at the same time
+  private static void awaitStartup() {
+    startup.countDown();
+    try {
+      if (!startup.await(5, TimeUnit.SECONDS)) {
+        throw new UnbelievableException("Components were not created concurrently");
+      }
+    } catch (InterruptedException e) {
+      throw new UnbelievableException(e);
+    }
+  }
+
+  public static class SlowDatabase {
+
+    public SlowDatabase() {
+      awaitStartup();
+    }
+
+  }
+
+  public static class SlowCache {
+
+    public SlowCache() {
+      awaitStartup();
+    }
+
+  }
+
+  public static class Application {
+
+    private final SlowDatabase database;
+    private final SlowCache cache;
+
+    public Application(SlowDatabase database, SlowCache cache) {
+      this.database = database;
+      this.cache = cache;
+    }
+
+  }
+
+  public static class Broken {
+
+    public Broken() {
+      throw new UnbelievableException("broken");
+    }
+
+  }
+
+  public static class DependsOnBroken {
+
+    public DependsOnBroken(Broken broken) {
+    }
+
+  }
+
+  @Test
+  public void testBootstrap() {
+    startup = new CountDownLatch(2);
+    Context context = new Context().bootstrap(Application.class, SlowDatabase.class, SlowCache.class);
+
+    Application application = context.get(Application.class);
+    assertSame(context.get(SlowDatabase.class), application.database);
+    assertSame(context.get(SlowCache.class), application.cache);
+  }
+
+  @Test
+  public void testBootstrapFailure() {
+    Context context = new Context();
+    UnbelievableException exception = assertThrows(UnbelievableException.class,
+      () -> context.bootstrap(DependsOnBroken.class, Broken.class));
+    assertEquals(1, exception.getSuppressed().length);
+    assertEquals("broken", exception.getSuppressed()[0].getCause().getMessage());
+  }
+
 }
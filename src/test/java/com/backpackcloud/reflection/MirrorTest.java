@@ -24,10 +24,25 @@
 
 package com.backpackcloud.reflection;
 
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.reflection.predicates.ElementPredicate;
+import com.backpackcloud.reflection.predicates.FieldPredicates;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
 import static com.backpackcloud.reflection.Mirror.reflect;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MirrorTest {
@@ -72,4 +87,216 @@ public class MirrorTest {
     assertEquals(15, reflect(String.class).constructors().size());
   }
 
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Marker {
+
+  }
+
+  static class Annotated {
+
+    @Marker
+    String first;
+
+    @Marker
+    String second;
+
+    String third;
+
+    @Marker
+    public void method(@Marker String parameter) {
+    }
+
+    public void other() {
+    }
+
+  }
+
+  @Test
+  public void testAnnotationIndex() throws NoSuchFieldException, NoSuchMethodException {
+    AnnotationIndex index = reflect(Annotated.class).annotationIndex();
+
+    assertEquals(2, index.fields(Marker.class).size());
+    assertTrue(index.fields(Marker.class).contains(Annotated.class.getDeclaredField("first")));
+    assertEquals(1, index.methods(Marker.class).size());
+    assertEquals(Annotated.class.getDeclaredMethod("method", String.class), index.methods(Marker.class).getFirst());
+    assertEquals(1, index.parameters(Marker.class).size());
+    assertTrue(index.fields(Override.class).isEmpty());
+    assertTrue(index.annotationTypes().contains(Marker.class));
+  }
+
+  @Test
+  public void testMirrorCache() {
+    assertSame(reflect(String.class), reflect("foo"));
+    assertEquals(reflect(String.class).fields(), reflect(String.class).fields());
+    assertNotSame(reflect(String.class).fields(), reflect(String.class).fields());
+
+    List<Field> fields = reflect(String.class).fields();
+    fields.clear();
+    assertEquals(11, reflect(String.class).fields().size());
+    assertSame(reflect(String.class).annotationIndex(), reflect(String.class).annotationIndex());
+  }
+
+  static class Base {
+
+    private int counter = 1;
+
+    private static String label = "base";
+
+  }
+
+  static class Derived extends Base {
+
+    private final String name = "derived";
+
+    private String greet(String who) {
+      return "hello " + who;
+    }
+
+    private String greet(String who, int times) {
+      return ("hello " + who + " ").repeat(times).trim();
+    }
+
+    static int twice(int value) {
+      return value * 2;
+    }
+
+    static void fail(boolean error) {
+      if (error) {
+        throw new AssertionError("error");
+      }
+      throw new IllegalStateException("exception");
+    }
+
+  }
+
+  @Test
+  public void testFieldAccessor() {
+    Derived target = new Derived();
+    Mirror mirror = reflect(Derived.class);
+
+    FieldAccessor counter = mirror.accessor("counter").orElseThrow();
+    assertSame(counter, mirror.accessor("counter").orElseThrow());
+    assertEquals(1, counter.getInt(target));
+    counter.setInt(target, 42);
+    assertEquals(42, counter.getInt(target));
+    assertEquals(42, counter.get(target));
+    counter.set(target, 7);
+    assertEquals(7, counter.getInt(target));
+
+    FieldAccessor label = mirror.accessor("label").orElseThrow();
+    assertEquals("base", label.get(null));
+    try {
+      label.set(null, "changed");
+      assertEquals("changed", label.get(target));
+    } finally {
+      label.set(null, "base");
+    }
+
+    assertEquals("derived", mirror.accessor("name").orElseThrow().get(target));
+    assertTrue(mirror.accessor("impossible_to_exist").isEmpty());
+  }
+
+  @Test
+  public void testMethodInvoker() {
+    Derived target = new Derived();
+    Mirror mirror = reflect(Derived.class);
+
+    assertEquals(2, mirror.overloads("greet").size());
+    assertTrue(mirror.overloads("impossible_to_exist").isEmpty());
+
+    MethodInvoker greet = mirror.invoker("greet", String.class, int.class).orElseThrow();
+    assertSame(greet, mirror.invoker("greet", String.class, int.class).orElseThrow());
+    assertEquals("hello you hello you", greet.invoke(target, "you", 2));
+    assertEquals("hello me", mirror.invoker("greet", String.class).orElseThrow().invoke(target, "me"));
+    assertEquals(42, mirror.invoker("twice", int.class).orElseThrow().invoke(null, 21));
+    assertEquals(target.hashCode(), mirror.invoker("hashCode").orElseThrow().invoke(target));
+    assertTrue(mirror.invoker("greet", Integer.class).isEmpty());
+
+    MethodInvoker fail = mirror.invoker("fail", boolean.class).orElseThrow();
+    assertEquals("error", assertThrows(AssertionError.class, () -> fail.invoke(null, true)).getMessage());
+    UnbelievableException exception = assertThrows(UnbelievableException.class, () -> fail.invoke(null, false));
+    assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  interface Greeter {
+
+    default String greet() {
+      return "hello";
+    }
+
+    default String farewell() {
+      return "bye";
+    }
+
+  }
+
+  interface PoliteGreeter extends Greeter {
+
+    @Override
+    default String greet() {
+      return "good morning";
+    }
+
+  }
+
+  static class Person implements Greeter, PoliteGreeter {
+
+    @Override
+    public String farewell() {
+      return "see you";
+    }
+
+  }
+
+  @Test
+  public void testInterfaceHierarchy() {
+    Mirror mirror = reflect(Person.class);
+
+    assertEquals(List.of(Person.class, Object.class, Greeter.class, PoliteGreeter.class), mirror.types());
+
+    List<Method> greets = mirror.resolvedMethods().stream()
+      .filter(method -> method.getName().equals("greet"))
+      .toList();
+    assertEquals(1, greets.size());
+    assertEquals(PoliteGreeter.class, greets.getFirst().getDeclaringClass());
+
+    assertEquals(Person.class, mirror.method("farewell").orElseThrow().getDeclaringClass());
+    assertEquals(PoliteGreeter.class, mirror.method("greet").orElseThrow().getDeclaringClass());
+    assertEquals("good morning", mirror.invoker("greet").orElseThrow().invoke(new Person()));
+  }
+
+  @Test
+  public void testPredicateCompilation() throws NoSuchFieldException {
+    ElementPredicate<Field> predicate = FieldPredicates.ofName("first")
+      .or(FieldPredicates.ofName("second"))
+      .or(FieldPredicates.ofName("third"))
+      .and(FieldPredicates.ofType(String.class))
+      .and(ElementPredicate.<Field>withModifiers(Modifier.PRIVATE).negate());
+
+    ElementPredicate<Field> compiled = predicate.compile();
+    ElementPredicate.All<Field> all = assertInstanceOf(ElementPredicate.All.class, compiled);
+    ElementPredicate.Named<Field> named = assertInstanceOf(ElementPredicate.Named.class, all.predicates().get(1));
+    assertEquals(3, named.names().size());
+
+    for (Field field : reflect(Annotated.class).fields()) {
+      assertEquals(predicate.test(field), compiled.test(field));
+    }
+    assertTrue(compiled.test(Annotated.class.getDeclaredField("third")));
+    assertFalse(compiled.test(Base.class.getDeclaredField("counter")));
+  }
+
+  @Test
+  public void testSelectMembers() {
+    Mirror mirror = reflect(Annotated.class);
+
+    List<Field> fields = mirror.fields(FieldPredicates.annotatedWith(Marker.class).and(FieldPredicates.ofName("second")));
+    assertEquals(1, fields.size());
+    assertEquals("second", fields.getFirst().getName());
+
+    assertEquals(3, mirror.fields(FieldPredicates.ofType(String.class)).size());
+    assertEquals(1, mirror.methods(ElementPredicate.annotatedWith(Marker.class)).size());
+    assertEquals(1, mirror.fields(ElementPredicate.named("first", "first")).size());
+    assertThrows(UnbelievableException.class, () -> ElementPredicate.named("first", null));
+  }
+
 }
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.backpackcloud.reflection.processing;
+
+import com.backpackcloud.UnbelievableException;
+import com.backpackcloud.metrics.Metrics;
+import com.backpackcloud.metrics.SimpleMetricsRegistry;
+import com.backpackcloud.preferences.PreferenceRegistry;
+import com.backpackcloud.preferences.UserPreferences;
+import com.backpackcloud.reflection.ConstructorFactory;
+import com.backpackcloud.reflection.Context;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.backpackcloud.reflection.predicates.ParameterPredicates.ofType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataProcessorTest {
+
+  private static final String SETTINGS = """
+    package sample;
+
+    import com.backpackcloud.preferences.PreferenceSpec;
+    import com.backpackcloud.preferences.PreferenceType;
+
+    public class Settings {
+
+      public static final PreferenceSpec<String> LOCALE =
+        new PreferenceSpec<>("locale", "The locale", PreferenceType.TEXT, "en");
+
+    }
+    """;
+
+  private static final String POINT = """
+    package sample;
+
+    import com.backpackcloud.reflection.GenerateMetadata;
+
+    @GenerateMetadata
+    public record Point(long x, double y) {
+
+      public Point(long x) {
+        this(x, 0);
+      }
+
+    }
+    """;
+
+  private static final String GREETER = """
+    package sample;
+
+    import com.backpackcloud.preferences.PreferenceSpec;
+    import com.backpackcloud.preferences.PreferenceType;
+    import com.backpackcloud.reflection.GenerateMetadata;
+
+    @GenerateMetadata
+    public class Greeter extends Settings {
+
+      public static final PreferenceSpec<String> GREETING =
+        new PreferenceSpec<>("greeting", "The greeting", PreferenceType.TEXT, "hello");
+
+      private final String name;
+      private final int times;
+
+      public Greeter(@Deprecated String name, int times) {
+        this.name = name;
+        this.times = times;
+      }
+
+      @Override
+      public String toString() {
+        return (GREETING.defaultValue() + " " + name + " ").repeat(times).trim();
+      }
+
+    }
+    """;
+
+  @Test
+  public void testGeneratedMetadata() throws Exception {
+    Path output = Files.createTempDirectory("metadata");
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+      List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")),
+      null, List.of(source("Settings", SETTINGS), source("Point", POINT), source("Greeter", GREETER)));
+    task.setProcessors(List.of(new MetadataProcessor()));
+    assertTrue(task.call());
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+      getClass().getClassLoader())) {
+      Class<?> greeter = classLoader.loadClass("sample.Greeter");
+
+      ConstructorFactory<?> factory = ConstructorFactory.of(greeter).orElseThrow();
+      assertEquals(List.of(
+        new ConstructorFactory.ParameterMetadata("name", String.class, List.of(Deprecated.class)),
+        new ConstructorFactory.ParameterMetadata("times", int.class, List.of())
+      ), factory.parameters());
+      // the inherited spec is registered as well, like the reflective fallback does
+      assertEquals(2, PreferenceRegistry.of(greeter).orElseThrow().specs().size());
+
+      UnbelievableException exception = assertThrows(UnbelievableException.class,
+        () -> factory.create(new Object[]{"world", null}));
+      assertTrue(exception.getMessage().contains("times"));
+
+      SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+      Metrics.enable(registry);
+      try {
+        Context context = new Context();
+        context.when(ofType(String.class), "world");
+        context.when(ofType(int.class), 2);
+        assertEquals("hello world hello world", context.create(greeter).toString());
+        // the conditions are tested against the generated metadata, so nothing is reflected
+        assertTrue(registry.findCounter("mirror.reflect").isEmpty());
+
+        // a plain predicate checked before a match needs the reflected parameter
+        Context reflecting = new Context()
+          .when(parameter -> false, "unused")
+          .when(ofType(String.class), "world")
+          .when(ofType(int.class), 2);
+        assertEquals("hello world hello world", reflecting.create(greeter).toString());
+        assertEquals(1, registry.findCounter("mirror.reflect").orElseThrow().count());
+      } finally {
+        Metrics.disable();
+      }
+
+      UserPreferences preferences = new UserPreferences();
+      preferences.register(greeter);
+      assertTrue(preferences.find("greeting").isPresent());
+      assertTrue(preferences.find("locale").isPresent());
+
+      Class<?> point = classLoader.loadClass("sample.Point");
+      ConstructorFactory<?> pointFactory = ConstructorFactory.of(point).orElseThrow();
+      assertEquals(List.of(
+        new ConstructorFactory.ParameterMetadata("x", long.class, List.of()),
+        new ConstructorFactory.ParameterMetadata("y", double.class, List.of())
+      ), pointFactory.parameters());
+      // widened the same way a reflective call would
+      assertEquals("Point[x=1, y=2.0]", pointFactory.create(new Object[]{1, 2}).toString());
+      assertEquals("Point[x=97, y=0.5]", pointFactory.create(new Object[]{'a', 0.5f}).toString());
+      assertThrows(IllegalArgumentException.class, () -> pointFactory.create(new Object[]{1.5, 2}));
+      assertEquals("Point[x=3, y=3.0]", new Context(3).create(point).toString());
+    }
+  }
+
+  private static SimpleJavaFileObject source(String name, String code) {
+    return new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"), SimpleJavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return code;
+      }
+    };
+  }
+
+}
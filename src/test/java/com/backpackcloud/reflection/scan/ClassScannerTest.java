@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Marcelo "Ataxexe" Guimarães
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.backpackcloud.reflection.scan;
+
+import com.backpackcloud.preferences.PreferenceSpec;
+import com.backpackcloud.preferences.PreferenceType;
+import com.backpackcloud.preferences.UserPreferences;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassScannerTest {
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Component {
+
+    String value() default "";
+
+    int[] order() default {};
+
+  }
+
+  interface Service {
+
+  }
+
+  @Component(value = "first", order = {1, 2})
+  public static class FirstService implements Service {
+
+    public static final PreferenceSpec<Boolean> ENABLED =
+      new PreferenceSpec<>("scan-test-enabled", "enabled", PreferenceType.FLAG, "on");
+
+    @Deprecated
+    private long counter;
+
+  }
+
+  static class SecondService extends FirstService {
+
+  }
+
+  private static ClassIndex scan() throws URISyntaxException {
+    Path root = Path.of(ClassScannerTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    return ClassScanner.scan(List.of(root), name -> name.startsWith(ClassScannerTest.class.getName()));
+  }
+
+  @Test
+  public void testScan() throws URISyntaxException {
+    ClassIndex index = scan();
+
+    ClassInfo info = index.find(FirstService.class.getName()).orElseThrow();
+    assertEquals(List.of(Service.class.getName()), info.interfaces());
+    assertEquals(Object.class.getName(), info.superName());
+    assertTrue(info.isAnnotatedWith(Component.class.getName()));
+    assertTrue(index.find(Service.class.getName()).orElseThrow().isInterface());
+
+    ClassInfo.MemberInfo counter = info.fields().stream()
+      .filter(field -> field.name().equals("counter"))
+      .findFirst()
+      .orElseThrow();
+    assertEquals("J", counter.descriptor());
+    assertFalse(counter.isStatic());
+    assertTrue(counter.annotations().contains(Deprecated.class.getName()));
+
+    assertEquals(1, index.annotatedWith(Component.class).size());
+    assertEquals(2, index.subtypesOf(Service.class).size());
+    assertEquals(List.of(info), index.withStaticFieldsOf(PreferenceSpec.class));
+  }
+
+  @Test
+  public void testPersistedIndex() throws URISyntaxException, IOException {
+    ClassIndex index = scan();
+    Path directory = Files.createTempDirectory("class-index");
+    index.persist(directory);
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+      ClassIndex loaded = ClassIndex.load(classLoader).orElseThrow();
+      assertEquals(index.classes().size(), loaded.classes().size());
+      assertEquals(index.find(FirstService.class.getName()), loaded.find(FirstService.class.getName()));
+    }
+  }
+
+  @Test
+  public void testPreferencesDiscovery() throws URISyntaxException {
+    UserPreferences preferences = new UserPreferences();
+    preferences.register(scan(), ClassScannerTest.class.getClassLoader());
+    assertTrue(preferences.find("scan-test-enabled").isPresent());
+  }
+
+}